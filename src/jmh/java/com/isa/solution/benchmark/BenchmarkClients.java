@@ -0,0 +1,36 @@
+package com.isa.solution.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.apiclient.DragonsApiClientImpl;
+import com.isa.solution.apiclient.ModelCodecRegistry;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.config.DragonsHttpTransport;
+import com.isa.solution.config.HttpTransportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Builds the production API client outside of a Spring context, with the same
+ * message converters Spring Boot's auto-configured {@link RestTemplateBuilder} provides.
+ */
+final class BenchmarkClients {
+
+    private BenchmarkClients() {
+    }
+
+    static DragonsApiClient dragonsApiClient(String baseUrl) {
+        return dragonsApiClient(baseUrl, HttpTransportProperties.defaults());
+    }
+
+    static DragonsApiClient dragonsApiClient(String baseUrl, HttpTransportProperties transportProperties) {
+        DragonsApiConfig config = new DragonsApiConfig();
+        ObjectMapper objectMapper = config.objectMapper(false);
+        RestTemplateBuilder builder = new RestTemplateBuilder().messageConverters(new StringHttpMessageConverter());
+        DragonsHttpTransport transport = DragonsHttpTransport.create(transportProperties, new SimpleMeterRegistry());
+        RestTemplate restTemplate = config.restTemplate(builder, objectMapper, transport);
+        return new DragonsApiClientImpl(restTemplate, new ModelCodecRegistry(objectMapper), baseUrl);
+    }
+}
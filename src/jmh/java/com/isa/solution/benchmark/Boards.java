@@ -0,0 +1,40 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.model.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded mission boards with the probability mix and reward range of real games.
+ */
+final class Boards {
+
+    private static final String[] PROBABILITIES = {
+            "Sure Thing", "Piece of Cake", "Walk in the park", "Quite likely", "Hmmm....",
+            "Risky", "Playing with fire", "Suicide mission", "Impossible", "Gamble"
+    };
+
+    private Boards() {
+    }
+
+    static List<Message> random(int size, long seed) {
+        Random random = new Random(seed);
+        List<Message> board = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            board.add(randomAd(random));
+        }
+        return board;
+    }
+
+    static Message randomAd(Random random) {
+        return new Message(
+                "ad" + Long.toHexString(random.nextLong()),
+                "Help Tarquin Fitzgerald to transport a magic carpet to Dunmead",
+                PROBABILITIES[random.nextInt(PROBABILITIES.length)],
+                1 + random.nextInt(7),
+                5 + random.nextInt(200),
+                null);
+    }
+}
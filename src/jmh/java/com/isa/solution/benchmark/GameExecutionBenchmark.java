@@ -0,0 +1,85 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.service.GameExecutionEngine;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.MissionSelectionService;
+import com.isa.solution.service.ShopService;
+import com.isa.solution.simulator.DragonsSimulator;
+import com.isa.solution.simulator.SimulatorSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time to play a batch of concurrent games against a deterministic
+ * {@link DragonsSimulator}, comparing one platform thread per game with one virtual thread per game.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="GameExecutionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameExecutionBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public GameExecutionEngine.Mode mode;
+
+    @Param({"10", "100", "1000"})
+    public int games;
+
+    @Param({"20"})
+    public int latencyMillis;
+
+    @Param({"10"})
+    public int solvesPerGame;
+
+    private DragonsSimulator simulator;
+    private GamePlayService gamePlayService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        simulator = DragonsSimulator.start(SimulatorSettings.deterministic(solvesPerGame)
+                .withLatency(Duration.ofMillis(latencyMillis), Duration.ZERO), 0);
+        DragonsApiClient apiClient = BenchmarkClients.dragonsApiClient(simulator.baseUrl());
+
+        // One thread per game in both modes, so the comparison is platform vs virtual threads only.
+        GameExecutionEngine engine = new GameExecutionEngine(mode, games, games);
+        gamePlayService = new GamePlayService(
+                apiClient, new MissionSelectionService(), new ShopService(apiClient), engine, games);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulator.close();
+    }
+
+    @Benchmark
+    public GamePlayResponse playConcurrentGames() {
+        GamePlayResponse response = gamePlayService.playGames(games, games);
+        if (response.successfulGames() != games) {
+            throw new IllegalStateException(response.failedGames() + " of " + games + " games failed");
+        }
+        return response;
+    }
+}
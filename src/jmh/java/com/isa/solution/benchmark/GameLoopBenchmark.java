@@ -0,0 +1,53 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.MissionSelectionService;
+import com.isa.solution.service.ShopService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One complete game loop against {@link InMemoryDragonsApiClient}: selection, shop decisions,
+ * board caching and result bookkeeping, without any I/O. A regression here is a regression
+ * of the per-turn hot path.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="GameLoopBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLoopBenchmark {
+
+    @Param({"10", "100"})
+    public int boardSize;
+
+    private GamePlayService gamePlayService;
+
+    @Setup
+    public void setUp() {
+        InMemoryDragonsApiClient apiClient = new InMemoryDragonsApiClient(boardSize, 42);
+        gamePlayService = new GamePlayService(apiClient, new MissionSelectionService(), new ShopService(apiClient));
+    }
+
+    @Benchmark
+    public GamePlayResponse playSingleGame() {
+        return gamePlayService.playGame();
+    }
+}
@@ -0,0 +1,175 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.exception.InsufficientResourcesException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DragonsApiClient} that plays seeded games in memory, so game-loop benchmarks measure
+ * the client's own work without any I/O. Every turn ages the board by one and tops it up
+ * with new ads; solves succeed with a fixed chance per probability label.
+ */
+final class InMemoryDragonsApiClient implements DragonsApiClient {
+
+    private static final List<ShopItem> SHOP = List.of(
+            new ShopItem("hpot", "Healing potion", 50),
+            new ShopItem("cs", "Claw Sharpening", 100),
+            new ShopItem("gas", "Gasoline", 100),
+            new ShopItem("wax", "Copper Plating", 100),
+            new ShopItem("tricks", "Book of Tricks", 100),
+            new ShopItem("wingpot", "Potion of Stronger Wings", 100));
+
+    private static final int TARGET_SCORE = 1000;
+
+    private final int boardSize;
+    private final long seed;
+    private final AtomicLong gameIds = new AtomicLong();
+    private final Map<String, GameState> games = new ConcurrentHashMap<>();
+
+    InMemoryDragonsApiClient(int boardSize, long seed) {
+        this.boardSize = boardSize;
+        this.seed = seed;
+    }
+
+    @Override
+    public Game startGame() {
+        String gameId = "mem-" + gameIds.incrementAndGet();
+        GameState state = new GameState(gameId, new Random(seed ^ gameId.hashCode()), boardSize);
+        games.put(gameId, state);
+        return state.snapshot();
+    }
+
+    @Override
+    public List<Message> getAllMissions(String gameId) {
+        GameState state = state(gameId);
+        synchronized (state) {
+            return new ArrayList<>(state.board);
+        }
+    }
+
+    @Override
+    public SolveResponse solveMission(String gameId, String missionId) {
+        GameState state = state(gameId);
+        synchronized (state) {
+            Message ad = state.board.stream()
+                    .filter(m -> m.adId().equals(missionId))
+                    .findFirst()
+                    .orElseThrow(() -> new MissionNotFoundException(gameId, missionId));
+            state.board.remove(ad);
+
+            boolean success = state.random.nextDouble() < successRate(ad.probability());
+            if (success) {
+                state.score += ad.reward();
+                state.gold += ad.reward();
+            } else {
+                state.lives--;
+            }
+            state.nextTurn();
+            if (state.lives <= 0 || state.score >= TARGET_SCORE) {
+                games.remove(gameId);
+            }
+            return new SolveResponse(success, state.lives, state.gold, state.score, state.score, state.turn,
+                    success ? "You successfully solved the mission!" : "You have failed the mission");
+        }
+    }
+
+    @Override
+    public List<ShopItem> getShopItems(String gameId) {
+        state(gameId);
+        return SHOP;
+    }
+
+    @Override
+    public PurchaseResponse purchaseItem(String gameId, String itemId) {
+        GameState state = state(gameId);
+        ShopItem item = SHOP.stream()
+                .filter(i -> i.id().equals(itemId))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("itemId", itemId, "Item not found in shop"));
+        synchronized (state) {
+            if (state.gold < item.cost()) {
+                throw new InsufficientResourcesException("Not enough gold to purchase item");
+            }
+            state.gold -= item.cost();
+            if ("hpot".equals(itemId)) {
+                state.lives++;
+            }
+            state.nextTurn();
+            return new PurchaseResponse(true, state.lives, state.gold, 0, state.turn);
+        }
+    }
+
+    private GameState state(String gameId) {
+        GameState state = games.get(gameId);
+        if (state == null) {
+            throw new GameNotFoundException(gameId);
+        }
+        return state;
+    }
+
+    private static double successRate(String probability) {
+        return switch (probability) {
+            case "Sure Thing" -> 0.95;
+            case "Piece of Cake" -> 0.9;
+            case "Walk in the park" -> 0.85;
+            case "Quite likely" -> 0.75;
+            case "Hmmm...." -> 0.55;
+            case "Gamble" -> 0.5;
+            case "Risky" -> 0.45;
+            case "Playing with fire" -> 0.3;
+            case "Suicide mission" -> 0.15;
+            default -> 0.05;
+        };
+    }
+
+    private static final class GameState {
+
+        private final String gameId;
+        private final Random random;
+        private final int boardSize;
+        private final List<Message> board;
+        private int lives = 3;
+        private int gold;
+        private int score;
+        private int turn;
+
+        private GameState(String gameId, Random random, int boardSize) {
+            this.gameId = gameId;
+            this.random = random;
+            this.boardSize = boardSize;
+            this.board = new ArrayList<>(boardSize);
+            refill();
+        }
+
+        private void nextTurn() {
+            turn++;
+            board.replaceAll(m -> new Message(m.adId(), m.message(), m.probability(), m.expiresIn() - 1, m.reward(), m.encrypted()));
+            board.removeIf(m -> m.expiresIn() <= 0);
+            refill();
+        }
+
+        private void refill() {
+            while (board.size() < boardSize) {
+                board.add(Boards.randomAd(random));
+            }
+        }
+
+        private Game snapshot() {
+            return new Game(gameId, lives, gold, 0, score, turn, score);
+        }
+    }
+}
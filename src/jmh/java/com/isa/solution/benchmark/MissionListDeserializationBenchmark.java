@@ -0,0 +1,76 @@
+package com.isa.solution.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isa.solution.apiclient.JsonBodyReader;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one {@code /messages} response body into a mission list, i.e. the
+ * per-turn deserialisation work of a game. Run with the GC profiler to get the
+ * allocation per turn ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="MissionListDeserializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionListDeserializationBenchmark {
+
+    @Param({"10", "100"})
+    public int boardSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader missionListReader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new DragonsApiConfig().objectMapper(false);
+        missionListReader = objectMapper.readerFor(new TypeReference<List<Message>>() {});
+        payload = objectMapper.writeValueAsBytes(Boards.random(boardSize, 42));
+    }
+
+    /**
+     * The previous path: body decoded into a String, trimmed and lower-cased twice to
+     * look for HTML, then parsed from the String.
+     */
+    @Benchmark
+    public List<Message> stringIntermediate() throws IOException {
+        String body = new String(payload, StandardCharsets.UTF_8);
+        if (body.trim().toLowerCase().startsWith("<!doctype") || body.trim().toLowerCase().startsWith("<html")) {
+            throw new IllegalStateException("HTML body");
+        }
+        return objectMapper.readValue(body, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public List<Message> streaming() throws IOException {
+        return JsonBodyReader.read(new ByteArrayInputStream(payload), missionListReader);
+    }
+}
@@ -0,0 +1,157 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.model.Message;
+import com.isa.solution.service.MissionBoard;
+import com.isa.solution.service.MissionCandidates;
+import com.isa.solution.service.MissionSelectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of picking a mission from boards of realistic (10), large (100) and pathological
+ * (10k) size, once per turn of every game. The {@code stringLabels*} benchmarks run the former
+ * selection, which compared probability labels as strings on every call, as a baseline for the
+ * selection on decoded {@link com.isa.solution.model.Probability} values. The {@code board*}
+ * benchmarks select on a {@link MissionBoard} built once, as a game does for every iteration of a
+ * turn after the first.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="MissionSelectionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionSelectionBenchmark {
+
+    @Param({"10", "100", "10000"})
+    public int boardSize;
+
+    @Param({"1", "3"})
+    public int lives;
+
+    private final MissionSelectionService missionSelectionService = new MissionSelectionService();
+    private List<Message> board;
+    private MissionBoard missionBoard;
+
+    @Setup
+    public void setUp() {
+        board = Boards.random(boardSize, 42);
+        missionBoard = MissionBoard.of(board);
+    }
+
+    @Benchmark
+    public Optional<Message> selectBestMission() {
+        return missionSelectionService.selectBestMission(board, lives);
+    }
+
+    @Benchmark
+    public Optional<Message> selectFallbackMission() {
+        return missionSelectionService.selectFallbackMission(board);
+    }
+
+    @Benchmark
+    public int boardBestMissionIndex() {
+        return missionSelectionService.bestMissionIndex(missionBoard, lives);
+    }
+
+    @Benchmark
+    public int boardFallbackMissionIndex() {
+        return missionSelectionService.fallbackMissionIndex(missionBoard);
+    }
+
+    @Benchmark
+    public MissionCandidates boardRankMissions() {
+        return missionSelectionService.rankMissions(missionBoard, lives, 8);
+    }
+
+    @Benchmark
+    public Optional<Message> stringLabelsSelectBestMission() {
+        return StringLabelSelection.selectBestMission(board, lives);
+    }
+
+    @Benchmark
+    public Optional<Message> stringLabelsSelectFallbackMission() {
+        return StringLabelSelection.selectFallbackMission(board);
+    }
+
+    /**
+     * Selection before labels were decoded: string comparisons per message and a label lookup
+     * inside the comparator.
+     */
+    static final class StringLabelSelection {
+
+        private static final String P_SURE = "Sure Thing";
+        private static final String P_CAKE = "Piece of Cake";
+        private static final String P_PARK = "Walk in the park";
+        private static final String P_LIKELY = "Quite likely";
+        private static final String P_HMMM = "Hmmm....";
+        private static final String P_RISKY = "Risky";
+        private static final String P_FIRE = "Playing with fire";
+        private static final String P_SUICIDE = "Suicide mission";
+        private static final String P_IMPOSSIBLE = "Impossible";
+
+        private StringLabelSelection() {
+        }
+
+        static Optional<Message> selectBestMission(List<Message> missions, int currentLives) {
+            return missions.stream()
+                    .filter(m -> m.expiresIn() > 0)
+                    .filter(m -> isSafeEnough(m.probability(), currentLives))
+                    .max(Comparator.comparingDouble(m -> m.reward() * numericProbability(m.probability())));
+        }
+
+        static Optional<Message> selectFallbackMission(List<Message> missions) {
+            return missions.stream()
+                    .filter(m -> m.expiresIn() > 0)
+                    .filter(m -> !P_IMPOSSIBLE.equals(m.probability()) && !P_SUICIDE.equals(m.probability()))
+                    .max(Comparator.comparingDouble(m -> numericProbability(m.probability())));
+        }
+
+        private static boolean isSafeEnough(String probability, int lives) {
+            if (probability == null) return false;
+            if (lives <= 1) {
+                return P_SURE.equals(probability) || P_CAKE.equals(probability);
+            }
+            if (lives <= 2) {
+                return P_SURE.equals(probability) || P_CAKE.equals(probability) || P_PARK.equals(probability);
+            }
+            return switch (probability) {
+                case P_SURE, P_CAKE, P_PARK, P_LIKELY -> true;
+                default -> false;
+            };
+        }
+
+        private static double numericProbability(String p) {
+            if (p == null) return 0.0;
+            return switch (p) {
+                case P_SURE -> 1.0;
+                case P_CAKE -> 0.95;
+                case P_PARK -> 0.85;
+                case P_LIKELY -> 0.70;
+                case P_HMMM -> 0.50;
+                case P_RISKY -> 0.35;
+                case P_FIRE -> 0.20;
+                case P_SUICIDE -> 0.05;
+                default -> 0.0;
+            };
+        }
+    }
+}
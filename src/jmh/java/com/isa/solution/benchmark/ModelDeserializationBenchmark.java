@@ -0,0 +1,85 @@
+package com.isa.solution.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isa.solution.apiclient.ModelCodecRegistry;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialisation cost per API model through the pre-built readers of
+ * {@link ModelCodecRegistry}, with and without the Blackbird module. Add {@code -prof gc}
+ * for bytes/op:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ModelDeserializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelDeserializationBenchmark {
+
+    @Param({"game", "solveResponse", "purchaseResponse", "messageList", "shopItemList"})
+    public String model;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new DragonsApiConfig().objectMapper(blackbird);
+        ModelCodecRegistry codecs = new ModelCodecRegistry(objectMapper);
+
+        Object sample = switch (model) {
+            case "game" -> new Game("Yx8nFBO1", 3, 0, 0, 0, 0, 0);
+            case "solveResponse" -> new SolveResponse(true, 3, 120, 85, 85, 4, "You successfully solved the mission!");
+            case "purchaseResponse" -> new PurchaseResponse(true, 3, 70, 0, 5);
+            case "messageList" -> Boards.random(10, 42);
+            case "shopItemList" -> List.of(
+                    new ShopItem("hpot", "Healing potion", 50),
+                    new ShopItem("cs", "Claw Sharpening", 100),
+                    new ShopItem("gas", "Gasoline", 100),
+                    new ShopItem("wax", "Copper Plating", 100),
+                    new ShopItem("tricks", "Book of Tricks", 100),
+                    new ShopItem("wingpot", "Potion of Stronger Wings", 100));
+            default -> throw new IllegalArgumentException(model);
+        };
+        payload = objectMapper.writeValueAsBytes(sample);
+        reader = switch (model) {
+            case "messageList" -> codecs.listReader(Message.class);
+            case "shopItemList" -> codecs.listReader(ShopItem.class);
+            default -> codecs.reader(sample.getClass());
+        };
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
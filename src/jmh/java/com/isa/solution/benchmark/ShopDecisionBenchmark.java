@@ -0,0 +1,107 @@
+package com.isa.solution.benchmark;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+import com.isa.solution.service.ShopService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side cost of the healing potion decision: the gold/lives rules alone, and a full
+ * purchase served from the per-game shop catalogue cache.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShopDecisionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShopDecisionBenchmark {
+
+    private static final int[][] STATES = {
+            {0, 1}, {30, 1}, {120, 1}, {30, 2}, {60, 2}, {150, 2}, {60, 3}, {500, 3}
+    };
+
+    private ShopService shopService;
+    private String gameId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        DragonsApiClient apiClient = new AffordingClient(new InMemoryDragonsApiClient(10, 42));
+        shopService = new ShopService(apiClient);
+        gameId = apiClient.startGame().gameId();
+        shopService.shopItems(gameId);
+    }
+
+    @Benchmark
+    public boolean needsHealingPotion() {
+        int[] state = STATES[next++ & 7];
+        return shopService.needsHealingPotion(state[0], state[1]);
+    }
+
+    @Benchmark
+    public Optional<PurchaseResponse> buyHealingPotionIfNeeded() {
+        return shopService.buyHealingPotionIfNeeded(gameId, 120, 1);
+    }
+
+    /**
+     * The in-memory client, except that every purchase succeeds: its game has no gold, and the
+     * benchmark measures the decision and the catalogue cache, not the in-memory bookkeeping.
+     */
+    private static final class AffordingClient implements DragonsApiClient {
+
+        private static final PurchaseResponse PURCHASE = new PurchaseResponse(true, 2, 70, 0, 1);
+
+        private final DragonsApiClient delegate;
+
+        private AffordingClient(DragonsApiClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Game startGame() {
+            return delegate.startGame();
+        }
+
+        @Override
+        public List<Message> getAllMissions(String gameId) {
+            return delegate.getAllMissions(gameId);
+        }
+
+        @Override
+        public SolveResponse solveMission(String gameId, String missionId) {
+            return delegate.solveMission(gameId, missionId);
+        }
+
+        @Override
+        public List<ShopItem> getShopItems(String gameId) {
+            return delegate.getShopItems(gameId);
+        }
+
+        @Override
+        public PurchaseResponse purchaseItem(String gameId, String itemId) {
+            return PURCHASE;
+        }
+    }
+}
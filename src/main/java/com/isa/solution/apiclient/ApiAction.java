@@ -0,0 +1,22 @@
+package com.isa.solution.apiclient;
+
+/**
+ * Description of an API call for logs and error messages, e.g. "Solve mission 42". The text is
+ * only concatenated when it is logged or put into an exception, so a successful call at the
+ * default log level builds no string for it.
+ */
+record ApiAction(String description, String subject) {
+
+    static ApiAction of(String description) {
+        return new ApiAction(description, null);
+    }
+
+    static ApiAction of(String description, String subject) {
+        return new ApiAction(description, subject);
+    }
+
+    @Override
+    public String toString() {
+        return subject == null ? description : description + " " + subject;
+    }
+}
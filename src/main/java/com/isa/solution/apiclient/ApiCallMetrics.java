@@ -0,0 +1,110 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.exception.ApiResponseException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timers and in-flight gauges of the calls made by {@link DragonsApiClientImpl}.
+ * <ul>
+ *     <li>{@code dragons.api.client.requests{operation, outcome, status}}: call latency, where
+ *     {@code outcome} is {@code success} or the simple name of the thrown exception and
+ *     {@code status} the HTTP status of an {@link ApiResponseException} ({@code none} otherwise)</li>
+ *     <li>{@code dragons.api.client.active{operation}}: calls currently in flight</li>
+ * </ul>
+ * Tags use the fixed {@link Operation} names rather than the action text, which contains ids.
+ */
+@Component
+public class ApiCallMetrics {
+
+    public enum Operation {
+        START_GAME("startGame"),
+        GET_MISSIONS("getMissions"),
+        SOLVE_MISSION("solveMission"),
+        GET_SHOP_ITEMS("getShopItems"),
+        PURCHASE_ITEM("purchaseItem");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    static final String REQUESTS = "dragons.api.client.requests";
+    static final String ACTIVE = "dragons.api.client.active";
+    private static final String NO_STATUS = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Operation, AtomicInteger> active = new EnumMap<>(Operation.class);
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ApiCallMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Operation operation : Operation.values()) {
+            AtomicInteger inFlight = new AtomicInteger();
+            active.put(operation, inFlight);
+            Gauge.builder(ACTIVE, inFlight, AtomicInteger::get)
+                    .description("Dragons API calls in flight")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Metrics that are not exported anywhere, for clients built outside Spring.
+     */
+    public static ApiCallMetrics disabled() {
+        return new ApiCallMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Marks a call as in flight; returns the start time to pass to {@link #finish}.
+     */
+    long start(Operation operation) {
+        active.get(operation).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a call started with {@link #start}; {@code failure} is {@code null} on success.
+     */
+    void finish(Operation operation, long startNanos, Throwable failure) {
+        long elapsed = System.nanoTime() - startNanos;
+        active.get(operation).decrementAndGet();
+        timer(operation, failure).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    int inFlight(Operation operation) {
+        return active.get(operation).get();
+    }
+
+    private Timer timer(Operation operation, Throwable failure) {
+        String outcome = failure == null ? "success" : failure.getClass().getSimpleName();
+        String status = failure instanceof ApiResponseException response
+                ? String.valueOf(response.getStatusCode())
+                : NO_STATUS;
+        return timers.computeIfAbsent(new TimerKey(operation, outcome, status), key -> Timer.builder(REQUESTS)
+                .description("Dragons API call latency")
+                .tag("operation", key.operation().tag())
+                .tag("outcome", key.outcome())
+                .tag("status", key.status())
+                .register(registry));
+    }
+
+    private record TimerKey(Operation operation, String outcome, String status) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.CircuitBreakerProperties;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.CircuitBreakerOpenException;
+import com.isa.solution.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link CircuitBreaker} per Dragons API endpoint, so a failing {@code /solve} does not stop
+ * games from reading their boards. Connection errors and 5xx responses count as failures; 4xx
+ * responses mean the API is up and count as successes; client-side rate limiting is ignored.
+ * <ul>
+ *     <li>{@code dragons.api.circuit.state{operation}}: 0 closed, 1 half-open, 2 open</li>
+ *     <li>{@code dragons.api.circuit.rejected{operation}}: calls failed fast while open</li>
+ *     <li>{@code dragons.api.circuit.opened{operation}}: times the breaker opened</li>
+ * </ul>
+ */
+@Component
+public class ApiCircuitBreakers implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiCircuitBreakers.class);
+
+    private final boolean enabled;
+    private final Map<Operation, CircuitBreaker> breakers = new EnumMap<>(Operation.class);
+
+    public ApiCircuitBreakers(CircuitBreakerProperties properties) {
+        this.enabled = properties.enabled();
+        for (Operation operation : Operation.values()) {
+            breakers.put(operation, new CircuitBreaker(properties));
+        }
+    }
+
+    public static ApiCircuitBreakers disabled() {
+        return new ApiCircuitBreakers(CircuitBreakerProperties.disabled());
+    }
+
+    /**
+     * The phase of the breaker the call goes out under, {@code null} when breakers are disabled.
+     *
+     * @throws CircuitBreakerOpenException when the breaker of {@code operation} is open
+     */
+    CircuitBreaker.Phase acquire(Operation operation, String endpoint) {
+        if (!enabled) {
+            return null;
+        }
+        CircuitBreaker.Phase admitted = breakers.get(operation).tryAcquire();
+        if (admitted == null) {
+            throw new CircuitBreakerOpenException(endpoint, operation.tag());
+        }
+        return admitted;
+    }
+
+    /**
+     * Records the result of a call let through by {@link #acquire} under {@code admitted};
+     * {@code failure} is {@code null} on success.
+     */
+    void record(Operation operation, CircuitBreaker.Phase admitted, long elapsedNanos, Throwable failure) {
+        if (!enabled || admitted == null) {
+            return;
+        }
+        CircuitBreaker breaker = breakers.get(operation);
+        CircuitBreaker.State before = breaker.state();
+        breaker.record(admitted, classify(failure), elapsedNanos);
+        CircuitBreaker.State after = breaker.state();
+        if (before != after) {
+            log.warn("Circuit breaker for {} is now {}", operation.tag(), after);
+        }
+    }
+
+    public boolean isOpen(Operation operation) {
+        return breakers.get(operation).state() == CircuitBreaker.State.OPEN;
+    }
+
+    CircuitBreaker.State state(Operation operation) {
+        return breakers.get(operation).state();
+    }
+
+    static CircuitBreaker.Outcome classify(Throwable failure) {
+        if (failure == null) {
+            return CircuitBreaker.Outcome.SUCCESS;
+        }
+        if (failure instanceof RateLimitExceededException) {
+            return CircuitBreaker.Outcome.IGNORED;
+        }
+        if (failure instanceof ApiConnectionException) {
+            return CircuitBreaker.Outcome.FAILURE;
+        }
+        if (failure instanceof ApiResponseException response) {
+            return response.getStatusCode() >= 500 ? CircuitBreaker.Outcome.FAILURE : CircuitBreaker.Outcome.SUCCESS;
+        }
+        return CircuitBreaker.Outcome.SUCCESS;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        breakers.forEach((operation, breaker) -> {
+            Gauge.builder("dragons.api.circuit.state", breaker, b -> b.state().ordinal())
+                    .description("Circuit breaker state: 0 closed, 1 half-open, 2 open")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            FunctionCounter.builder("dragons.api.circuit.rejected", breaker, CircuitBreaker::rejected)
+                    .description("Dragons API calls failed fast by an open circuit breaker")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+            FunctionCounter.builder("dragons.api.circuit.opened", breaker, CircuitBreaker::opened)
+                    .description("Times the circuit breaker opened")
+                    .tag("operation", operation.tag())
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.DragonsApiException;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.exception.InsufficientResourcesException;
+import com.isa.solution.exception.InvalidGameStateException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.exception.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Maps transport failures and error responses of the Dragons API to {@link DragonsApiException}s.
+ * Shared by {@link DragonsApiClientImpl} and {@link AsyncDragonsApiClientImpl} so both clients
+ * surface exactly the same exception types.
+ */
+final class ApiErrorMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiErrorMapper.class);
+
+    private ApiErrorMapper() {
+    }
+
+    /**
+     * Call-specific mapping of a 4xx response; returns {@code null} when the generic
+     * {@link #translate} mapping applies.
+     */
+    @FunctionalInterface
+    interface ClientErrorHandler {
+        DragonsApiException handle(HttpClientErrorException e);
+    }
+
+    static final ClientErrorHandler NONE = e -> null;
+
+    static ClientErrorHandler listFailure(String gameId) {
+        return e -> e instanceof HttpClientErrorException.NotFound ? new GameNotFoundException(gameId, e) : null;
+    }
+
+    static ClientErrorHandler solveFailure(String gameId, String missionId) {
+        return e -> {
+            if (e instanceof HttpClientErrorException.NotFound) {
+                return handleNotFound(e, gameId, missionId);
+            }
+            if (e instanceof HttpClientErrorException.BadRequest) {
+                return new InvalidGameStateException(gameId, missionId, "Cannot solve mission in current state");
+            }
+            return null;
+        };
+    }
+
+    static ClientErrorHandler purchaseFailure(String gameId) {
+        return e -> {
+            if (e instanceof HttpClientErrorException.NotFound) {
+                return handleNotFound(e, gameId, null);
+            }
+            if (e instanceof HttpClientErrorException.BadRequest) {
+                return handlePurchaseBadRequest(e);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Generic mapping applied to every failure that is not already a {@link DragonsApiException}.
+     */
+    static DragonsApiException translate(ApiAction action, String endpoint, Throwable error) {
+        Throwable e = unwrap(error);
+        if (e instanceof ResourceAccessException || e instanceof IOException) {
+            return new ApiConnectionException(endpoint, "Connection failed", e);
+        }
+        if (e instanceof HttpClientErrorException.TooManyRequests tooManyRequests) {
+            Integer retryAfter = retryAfterSeconds(tooManyRequests.getResponseHeaders());
+            return retryAfter != null ? new RateLimitExceededException(retryAfter) : new RateLimitExceededException();
+        }
+        if (e instanceof HttpStatusCodeException httpError) {
+            String body = httpError.getResponseBodyAsString();
+            int status = httpError.getStatusCode().value();
+            log.error("HTTP error during '{}': {} - {}", action, status, snippet(body));
+            return new ApiResponseException(status, "Failed to " + action, body, e);
+        }
+        if (e instanceof DragonsApiException dragonsApiException) {
+            return dragonsApiException;
+        }
+        return new DragonsApiException("Unexpected error during " + action, e);
+    }
+
+    static void validateId(String fieldName, String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidRequestException(fieldName, id, "ID cannot be null or empty");
+        }
+    }
+
+    private static DragonsApiException handleNotFound(HttpClientErrorException e, String gameId, String resourceId) {
+        String body = e.getResponseBodyAsString();
+        if (resourceId != null && body != null && (body.contains("mission") || body.contains("ad"))) {
+            return new MissionNotFoundException(gameId, resourceId, e);
+        }
+        if (body != null && body.contains("item")) {
+            return new InvalidRequestException("itemId", resourceId, "Item not found in shop");
+        }
+        return new GameNotFoundException(gameId, e);
+    }
+
+    private static DragonsApiException handlePurchaseBadRequest(HttpClientErrorException e) {
+        String body = e.getResponseBodyAsString();
+        if (body != null && (body.contains("gold") || body.contains("insufficient"))) {
+            return new InsufficientResourcesException("Not enough gold to purchase item");
+        }
+        return new InvalidRequestException("Purchase failed: " + body);
+    }
+
+    /**
+     * {@code Retry-After} as delay-seconds or HTTP-date; {@code null} when absent or unparseable.
+     */
+    static Integer retryAfterSeconds(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return (int) Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toSeconds());
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    private static String snippet(String body) {
+        if (body == null) return "null";
+        return body.length() <= 200 ? body : body.substring(0, 200) + "...";
+    }
+}
@@ -0,0 +1,136 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.RateLimitProperties;
+import com.isa.solution.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide rate limiter in front of {@link DragonsApiClientImpl}: one {@link TokenBucket}
+ * per endpoint, plus a shared pause set by a 429 so every game backs off for the server's
+ * {@code Retry-After} instead of each discovering the limit on its own. Exported as
+ * {@code dragons.api.rate-limit.throttled} (calls that waited), {@code .rejected} (calls that
+ * would have waited longer than {@code max-wait}) and {@code .pauses} (429s received).
+ */
+@Component
+public class ApiRateLimiter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiRateLimiter.class);
+
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final Duration defaultRetryAfter;
+    private final Map<Operation, TokenBucket> buckets = new EnumMap<>(Operation.class);
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+
+    public ApiRateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.defaultRetryAfter = properties.defaultRetryAfter();
+        if (enabled) {
+            for (Operation operation : Operation.values()) {
+                RateLimitProperties.Limit limit = properties.limitFor(operation.tag());
+                buckets.put(operation, new TokenBucket(limit.permitsPerSecond(), limit.burst()));
+            }
+        }
+    }
+
+    public static ApiRateLimiter unlimited() {
+        return new ApiRateLimiter(RateLimitProperties.disabled());
+    }
+
+    /**
+     * Blocks until {@code operation} may be called.
+     *
+     * @throws RateLimitExceededException when the pause or the queue ahead is longer than {@code max-wait};
+     *                                    its retry-after is the time until a permit would be free
+     */
+    public void acquire(Operation operation) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        long pause = Math.max(0, pausedUntil.get() - now);
+        if (pause > maxWaitNanos) {
+            rejected.increment();
+            throw new RateLimitExceededException(toRetryAfterSeconds(pause));
+        }
+
+        TokenBucket bucket = buckets.get(operation);
+        long wait = bucket.reserve(now + pause, maxWaitNanos - pause);
+        if (wait < 0) {
+            rejected.increment();
+            throw new RateLimitExceededException("Client-side rate limit of " + operation.tag() + " exceeded",
+                    toRetryAfterSeconds(pause + bucket.waitNanos(now + pause)));
+        }
+        sleep(pause + wait);
+    }
+
+    /**
+     * The server answered 429: no call leaves this JVM until its {@code Retry-After} has passed.
+     */
+    public void onRateLimited(RateLimitExceededException e) {
+        if (!enabled) {
+            return;
+        }
+        Duration retryAfter = e.getRetryAfterSeconds() != null
+                ? Duration.ofSeconds(e.getRetryAfterSeconds())
+                : defaultRetryAfter;
+        long until = System.nanoTime() + retryAfter.toNanos();
+        pausedUntil.accumulateAndGet(until, (current, candidate) -> candidate - current > 0 ? candidate : current);
+        pauses.increment();
+        log.warn("Dragons API rate limit hit, pausing all calls for {}", retryAfter);
+    }
+
+    /**
+     * Time until calls are allowed again after a 429; zero when not paused.
+     */
+    public Duration remainingPause() {
+        return Duration.ofNanos(Math.max(0, pausedUntil.get() - System.nanoTime()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dragons.api.rate-limit.throttled", throttled, LongAdder::sum)
+                .description("Dragons API calls delayed by the client-side rate limiter")
+                .register(registry);
+        FunctionCounter.builder("dragons.api.rate-limit.rejected", rejected, LongAdder::sum)
+                .description("Dragons API calls refused because the wait exceeded max-wait")
+                .register(registry);
+        FunctionCounter.builder("dragons.api.rate-limit.pauses", pauses, LongAdder::sum)
+                .description("HTTP 429 responses that paused all Dragons API calls")
+                .register(registry);
+    }
+
+    private void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        throttled.increment();
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitExceededException("Interrupted while waiting for a rate limit permit");
+        }
+    }
+
+    private static int toRetryAfterSeconds(long nanos) {
+        return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,116 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.RetryProperties;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.CircuitBreakerOpenException;
+import com.isa.solution.exception.DragonsApiException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent calls after transient failures (connection errors and 5xx responses, but
+ * not calls refused by an open circuit breaker) with
+ * exponential backoff and jitter, so that games failing together do not retry together.
+ * Retries are counted as {@code dragons.api.client.retries{operation}}.
+ */
+@Component
+public class ApiRetryPolicy implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiRetryPolicy.class);
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Map<Operation, LongAdder> retries = new EnumMap<>(Operation.class);
+
+    public ApiRetryPolicy(RetryProperties properties) {
+        this.maxAttempts = properties.maxAttempts();
+        this.initialBackoffNanos = properties.initialBackoff().toNanos();
+        this.maxBackoffNanos = properties.maxBackoff().toNanos();
+        this.multiplier = properties.multiplier();
+        this.jitter = properties.jitter();
+        for (Operation operation : Operation.values()) {
+            retries.put(operation, new LongAdder());
+        }
+    }
+
+    public static ApiRetryPolicy disabled() {
+        return new ApiRetryPolicy(RetryProperties.disabled());
+    }
+
+    /**
+     * Runs {@code call} up to {@code max-attempts} times; only for calls that are safe to repeat.
+     */
+    public <T> T execute(Operation operation, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (DragonsApiException e) {
+                if (attempt >= maxAttempts || !isTransient(e)) {
+                    throw e;
+                }
+                long backoff = backoffNanos(attempt);
+                log.debug("{} failed on attempt {}/{}, retrying in {} ms: {}", operation.tag(), attempt, maxAttempts,
+                        TimeUnit.NANOSECONDS.toMillis(backoff), e.getMessage());
+                retries.get(operation).increment();
+                pause(backoff, e);
+            }
+        }
+    }
+
+    long retries(Operation operation) {
+        return retries.get(operation).sum();
+    }
+
+    /**
+     * Backoff before retry number {@code attempt}: exponential, capped, with the {@code jitter}
+     * fraction drawn uniformly.
+     */
+    long backoffNanos(int attempt) {
+        double base = Math.min(maxBackoffNanos, initialBackoffNanos * Math.pow(multiplier, attempt - 1));
+        return (long) (base - base * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    static boolean isTransient(DragonsApiException e) {
+        if (e instanceof CircuitBreakerOpenException) {
+            return false;
+        }
+        if (e instanceof ApiConnectionException) {
+            return true;
+        }
+        return e instanceof ApiResponseException response && response.getStatusCode() >= 500;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        retries.forEach((operation, count) ->
+                FunctionCounter.builder("dragons.api.client.retries", count, LongAdder::sum)
+                        .description("Dragons API calls repeated after a transient failure")
+                        .tag("operation", operation.tag())
+                        .register(registry));
+    }
+
+    private static void pause(long nanos, DragonsApiException lastFailure) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw lastFailure;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.model.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DragonsApiClient}. Every future completes exceptionally
+ * with the same {@link com.isa.solution.exception.DragonsApiException} subtypes the synchronous
+ * client throws, so independent calls can be pipelined and game loops written as continuation chains.
+ */
+public interface AsyncDragonsApiClient {
+
+    CompletableFuture<Game> startGame();
+
+    CompletableFuture<List<Message>> getAllMissions(String gameId);
+
+    CompletableFuture<SolveResponse> solveMission(String gameId, String missionId);
+
+    CompletableFuture<List<ShopItem>> getShopItems(String gameId);
+
+    CompletableFuture<PurchaseResponse> purchaseItem(String gameId, String itemId);
+}
@@ -0,0 +1,211 @@
+package com.isa.solution.apiclient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isa.solution.config.HttpTransportProperties;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.DragonsApiException;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncDragonsApiClient} on the non-blocking {@code java.net.http} client. Connect and
+ * read timeouts and HTTP/2 negotiation follow {@code dragons.api.transport.*}. Error responses
+ * are turned into the same Spring {@code HttpStatusCodeException}s the {@code RestTemplate}
+ * raises and then mapped by {@link ApiErrorMapper}, like in {@link DragonsApiClientImpl}.
+ */
+@Service
+public class AsyncDragonsApiClientImpl implements AsyncDragonsApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncDragonsApiClientImpl.class);
+    private static final ApiAction START_GAME = ApiAction.of("Start new game");
+    private static final ApiAction GET_MISSIONS = ApiAction.of("Get all missions");
+    private static final ApiAction GET_SHOP_ITEMS = ApiAction.of("Get shop items");
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final String baseUrl;
+    private final ObjectReader gameReader;
+    private final ObjectReader solveResponseReader;
+    private final ObjectReader purchaseResponseReader;
+    private final ObjectReader missionListReader;
+    private final ObjectReader shopItemListReader;
+
+    @Autowired
+    public AsyncDragonsApiClientImpl(
+            HttpTransportProperties transport,
+            ModelCodecRegistry codecs,
+            @Value("${dragons.api.base-url:https://dragonsofmugloar.com/api/v2}") String baseUrl
+    ) {
+        this(HttpClient.newBuilder()
+                        .connectTimeout(transport.connectTimeout())
+                        .version(transport.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                        .build(),
+                transport.readTimeout(), codecs, baseUrl);
+    }
+
+    AsyncDragonsApiClientImpl(HttpClient httpClient, Duration requestTimeout, ModelCodecRegistry codecs, String baseUrl) {
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+        this.baseUrl = baseUrl;
+        this.gameReader = codecs.reader(Game.class);
+        this.solveResponseReader = codecs.reader(SolveResponse.class);
+        this.purchaseResponseReader = codecs.reader(PurchaseResponse.class);
+        this.missionListReader = codecs.listReader(Message.class);
+        this.shopItemListReader = codecs.listReader(ShopItem.class);
+    }
+
+    @Override
+    public CompletableFuture<Game> startGame() {
+        String endpoint = buildUrl("game", "start");
+        return post(START_GAME, endpoint, gameReader, ApiErrorMapper.NONE);
+    }
+
+    @Override
+    public CompletableFuture<List<Message>> getAllMissions(String gameId) {
+        try {
+            ApiErrorMapper.validateId("gameId", gameId);
+        } catch (DragonsApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return getList(GET_MISSIONS, buildUrl(gameId, "messages"), missionListReader, gameId);
+    }
+
+    @Override
+    public CompletableFuture<SolveResponse> solveMission(String gameId, String missionId) {
+        try {
+            ApiErrorMapper.validateId("gameId", gameId);
+            ApiErrorMapper.validateId("missionId", missionId);
+        } catch (DragonsApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String endpoint = buildUrl(gameId, "solve", missionId);
+        ApiAction action = ApiAction.of("Solve mission", missionId);
+        return post(action, endpoint, solveResponseReader, ApiErrorMapper.solveFailure(gameId, missionId));
+    }
+
+    @Override
+    public CompletableFuture<List<ShopItem>> getShopItems(String gameId) {
+        try {
+            ApiErrorMapper.validateId("gameId", gameId);
+        } catch (DragonsApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return getList(GET_SHOP_ITEMS, buildUrl(gameId, "shop"), shopItemListReader, gameId);
+    }
+
+    @Override
+    public CompletableFuture<PurchaseResponse> purchaseItem(String gameId, String itemId) {
+        try {
+            ApiErrorMapper.validateId("gameId", gameId);
+            ApiErrorMapper.validateId("itemId", itemId);
+        } catch (DragonsApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String endpoint = buildUrl(gameId, "shop", "buy", itemId);
+        ApiAction action = ApiAction.of("Purchase item", itemId);
+        return post(action, endpoint, purchaseResponseReader, ApiErrorMapper.purchaseFailure(gameId));
+    }
+
+    private <T> CompletableFuture<T> post(ApiAction action, String endpoint, ObjectReader reader,
+                                          ApiErrorMapper.ClientErrorHandler clientErrors) {
+        return send(action, endpoint, "POST", reader, clientErrors, (status, e) ->
+                new ApiResponseException(status, "Malformed response body", null, e));
+    }
+
+    private <T> CompletableFuture<T> getList(ApiAction action, String endpoint, ObjectReader reader, String gameId) {
+        return send(action, endpoint, "GET", reader, ApiErrorMapper.listFailure(gameId), (status, e) ->
+                new GameNotFoundException(gameId, e));
+    }
+
+    private <T> CompletableFuture<T> send(ApiAction action, String endpoint, String method, ObjectReader reader,
+                                          ApiErrorMapper.ClientErrorHandler clientErrors,
+                                          MalformedBodyHandler malformedBody) {
+        log.debug("{} at endpoint: {}", action, endpoint);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> this.<T>readBody(response, reader, clientErrors, malformedBody))
+                .handle((result, error) -> {
+                    if (error != null) {
+                        throw ApiErrorMapper.translate(action, endpoint, error);
+                    }
+                    log.debug("Successfully completed action: {}", action);
+                    return result;
+                });
+    }
+
+    private <T> T readBody(HttpResponse<byte[]> response, ObjectReader reader,
+                           ApiErrorMapper.ClientErrorHandler clientErrors, MalformedBodyHandler malformedBody) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.is4xxClientError()) {
+            HttpClientErrorException e = HttpClientErrorException.create(
+                    status, "", headers(response), response.body(), StandardCharsets.UTF_8);
+            DragonsApiException mapped = clientErrors.handle(e);
+            throw mapped != null ? mapped : e;
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(
+                    status, "", headers(response), response.body(), StandardCharsets.UTF_8);
+        }
+        if (!status.is2xxSuccessful()) {
+            throw new ApiResponseException(status.value(), "Unexpected response status",
+                    new String(response.body(), StandardCharsets.UTF_8));
+        }
+        try {
+            T result = JsonBodyReader.read(new ByteArrayInputStream(response.body()), reader);
+            if (result == null) {
+                throw new ApiResponseException(status.value(), "Empty response body", null);
+            }
+            return result;
+        } catch (JsonProcessingException e) {
+            throw malformedBody.handle(status.value(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpHeaders headers(HttpResponse<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return headers;
+    }
+
+    private String buildUrl(String... segments) {
+        return baseUrl + "/" + String.join("/", segments);
+    }
+
+    @FunctionalInterface
+    private interface MalformedBodyHandler {
+        DragonsApiException handle(int status, JsonProcessingException e);
+    }
+}
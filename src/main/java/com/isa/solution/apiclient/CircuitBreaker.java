@@ -0,0 +1,173 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.config.CircuitBreakerProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker of one endpoint. The state is read without locking on every call; only
+ * recording an outcome into the count-based window takes the breaker's monitor.
+ * <p>
+ * Each call is admitted under a {@link Phase}, and its outcome only counts while that phase is
+ * current: a call let through while closed that ends after the breaker opened is neither a
+ * failure of the new window nor a half-open probe.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, HALF_OPEN, OPEN }
+
+    enum Outcome { SUCCESS, FAILURE, IGNORED }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED, 0, 0));
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    CircuitBreaker(CircuitBreakerProperties properties) {
+        this.windowSize = properties.windowSize();
+        this.minimumCalls = properties.minimumCalls();
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.slowCallNanos = properties.slowCallDuration().toNanos();
+        this.slowCallRateThreshold = properties.slowCallRateThreshold();
+        this.openNanos = properties.openDuration().toNanos();
+        this.halfOpenProbes = properties.halfOpenProbes();
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * The phase a call may go out under now, or {@code null} when it is rejected. Every permitted
+     * call must be followed by {@link #record} with that phase.
+     */
+    Phase tryAcquire() {
+        Phase current = phase.get();
+        if (current.state == State.OPEN) {
+            if (System.nanoTime() - current.openedAt < openNanos) {
+                return reject();
+            }
+            phase.compareAndSet(current, new Phase(State.HALF_OPEN, current.openedAt, halfOpenProbes));
+            current = phase.get();
+        }
+        if (current.state == State.HALF_OPEN) {
+            // Rejections leave the count alone, so a probe handed back as ignored is admitted again.
+            return current.probesLeft.getAndUpdate(n -> n > 0 ? n - 1 : n) > 0 ? current : reject();
+        }
+        return current.state == State.CLOSED ? current : reject();
+    }
+
+    /**
+     * Records the outcome of a call admitted under {@code admitted}; ignored once the breaker has
+     * moved on to another phase.
+     */
+    void record(Phase admitted, Outcome outcome, long elapsedNanos) {
+        if (admitted != phase.get()) {
+            return;
+        }
+        if (admitted.state == State.HALF_OPEN) {
+            recordProbe(admitted, outcome);
+            return;
+        }
+        if (outcome == Outcome.IGNORED) {
+            return;
+        }
+        boolean isSlow = elapsedNanos >= slowCallNanos;
+        if (recordInWindow(outcome == Outcome.FAILURE, isSlow)) {
+            trip(admitted);
+        }
+    }
+
+    State state() {
+        return phase.get().state;
+    }
+
+    long rejected() {
+        return rejected.get();
+    }
+
+    long opened() {
+        return opened.get();
+    }
+
+    private Phase reject() {
+        rejected.incrementAndGet();
+        return null;
+    }
+
+    private void recordProbe(Phase halfOpen, Outcome outcome) {
+        if (outcome == Outcome.FAILURE) {
+            trip(halfOpen);
+        } else if (outcome == Outcome.IGNORED) {
+            halfOpen.probesLeft.incrementAndGet();
+        } else if (halfOpen.probesSucceeded.incrementAndGet() >= halfOpenProbes
+                && phase.compareAndSet(halfOpen, new Phase(State.CLOSED, 0, 0))) {
+            resetWindow();
+        }
+    }
+
+    private synchronized boolean recordInWindow(boolean isFailure, boolean isSlow) {
+        if (recorded == windowSize) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        failures += isFailure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        return recorded >= minimumCalls
+                && (failures * 100.0 / recorded >= failureRateThreshold
+                || slowCalls * 100.0 / recorded >= slowCallRateThreshold);
+    }
+
+    private synchronized void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private void trip(Phase from) {
+        if (phase.compareAndSet(from, new Phase(State.OPEN, System.nanoTime(), 0))) {
+            opened.incrementAndGet();
+            resetWindow();
+        }
+    }
+
+    /**
+     * One stay in a state. Replaced as a whole on every transition, so its open time and probe
+     * counts are never seen with another state, and a transition that loses its race writes
+     * nothing.
+     */
+    static final class Phase {
+
+        private final State state;
+        private final long openedAt;
+        private final AtomicInteger probesLeft;
+        private final AtomicInteger probesSucceeded = new AtomicInteger();
+
+        private Phase(State state, long openedAt, int probes) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.probesLeft = new AtomicInteger(probes);
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.isa.solution.apiclient;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.isa.solution.exception.ApiConnectionException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
 import com.isa.solution.exception.ApiResponseException;
 import com.isa.solution.exception.DragonsApiException;
 import com.isa.solution.exception.GameNotFoundException;
-import com.isa.solution.exception.InsufficientResourcesException;
-import com.isa.solution.exception.InvalidGameStateException;
-import com.isa.solution.exception.InvalidRequestException;
-import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.exception.RateLimitExceededException;
 import com.isa.solution.model.Game;
 import com.isa.solution.model.Message;
 import com.isa.solution.model.PurchaseResponse;
@@ -18,14 +14,15 @@ import com.isa.solution.model.ShopItem;
 import com.isa.solution.model.SolveResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -34,26 +31,60 @@ import java.util.function.Supplier;
 public class DragonsApiClientImpl implements DragonsApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(DragonsApiClientImpl.class);
+    private static final ApiAction START_GAME = ApiAction.of("Start new game");
+    private static final ApiAction GET_MISSIONS = ApiAction.of("Get all missions");
+    private static final ApiAction GET_SHOP_ITEMS = ApiAction.of("Get shop items");
+    private static final RequestCallback ACCEPT_JSON =
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
     private final String baseUrl;
-
+    private final ObjectReader gameReader;
+    private final ObjectReader solveResponseReader;
+    private final ObjectReader purchaseResponseReader;
+    private final ObjectReader missionListReader;
+    private final ObjectReader shopItemListReader;
+    private final ApiCallMetrics metrics;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiRetryPolicy retryPolicy;
+    private final HedgedRequestExecutor hedging;
+    private final ApiCircuitBreakers circuitBreakers;
+
+    public DragonsApiClientImpl(RestTemplate restTemplate, ModelCodecRegistry codecs, String baseUrl) {
+        this(restTemplate, codecs, baseUrl, ApiCallMetrics.disabled(), ApiRateLimiter.unlimited(),
+                ApiRetryPolicy.disabled(), HedgedRequestExecutor.disabled(), ApiCircuitBreakers.disabled());
+    }
+
+    @Autowired
     public DragonsApiClientImpl(
             RestTemplate restTemplate,
-            ObjectMapper objectMapper,
-            @Value("${dragons.api.base-url:https://dragonsofmugloar.com/api/v2}") String baseUrl
+            ModelCodecRegistry codecs,
+            @Value("${dragons.api.base-url:https://dragonsofmugloar.com/api/v2}") String baseUrl,
+            ApiCallMetrics metrics,
+            ApiRateLimiter rateLimiter,
+            ApiRetryPolicy retryPolicy,
+            HedgedRequestExecutor hedging,
+            ApiCircuitBreakers circuitBreakers
     ) {
         this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
         this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+        this.hedging = hedging;
+        this.circuitBreakers = circuitBreakers;
+        this.gameReader = codecs.reader(Game.class);
+        this.solveResponseReader = codecs.reader(SolveResponse.class);
+        this.purchaseResponseReader = codecs.reader(PurchaseResponse.class);
+        this.missionListReader = codecs.listReader(Message.class);
+        this.shopItemListReader = codecs.listReader(ShopItem.class);
     }
 
     @Override
     public Game startGame() {
         String endpoint = buildUrl("game", "start");
-        return executeApiCall("Start new game", endpoint, () ->
-                postForObject(endpoint, null, Game.class)
+        return executeApiCall(Operation.START_GAME, START_GAME, endpoint, ApiErrorMapper.NONE, () ->
+                postForObject(endpoint, gameReader)
         );
     }
 
@@ -62,9 +93,10 @@ public class DragonsApiClientImpl implements DragonsApiClient {
         validateId("gameId", gameId);
         String endpoint = buildUrl(gameId, "messages");
         return executeGetList(
-                "Get all missions",
+                Operation.GET_MISSIONS,
+                GET_MISSIONS,
                 endpoint,
-                new TypeReference<>() {},
+                missionListReader,
                 gameId
         );
     }
@@ -74,17 +106,11 @@ public class DragonsApiClientImpl implements DragonsApiClient {
         validateId("gameId", gameId);
         validateId("missionId", missionId);
         String endpoint = buildUrl(gameId, "solve", missionId);
-        String action = String.format("Solve mission %s", missionId);
+        ApiAction action = ApiAction.of("Solve mission", missionId);
 
-        return executeApiCall(action, endpoint, () -> {
-            try {
-                return postForObject(endpoint, null, SolveResponse.class);
-            } catch (HttpClientErrorException.NotFound e) {
-                throw handleNotFound(e, gameId, missionId);
-            } catch (HttpClientErrorException.BadRequest e) {
-                throw new InvalidGameStateException(gameId, missionId, "Cannot solve mission in current state");
-            }
-        });
+        return executeApiCall(Operation.SOLVE_MISSION, action, endpoint, ApiErrorMapper.solveFailure(gameId, missionId), () ->
+                postForObject(endpoint, solveResponseReader)
+        );
     }
 
     @Override
@@ -92,9 +118,10 @@ public class DragonsApiClientImpl implements DragonsApiClient {
         validateId("gameId", gameId);
         String endpoint = buildUrl(gameId, "shop");
         return executeGetList(
-                "Get shop items",
+                Operation.GET_SHOP_ITEMS,
+                GET_SHOP_ITEMS,
                 endpoint,
-                new TypeReference<>() {},
+                shopItemListReader,
                 gameId
         );
     }
@@ -104,101 +131,98 @@ public class DragonsApiClientImpl implements DragonsApiClient {
         validateId("gameId", gameId);
         validateId("itemId", itemId);
         String endpoint = buildUrl(gameId, "shop", "buy", itemId);
-        String action = String.format("Purchase item %s", itemId);
+        ApiAction action = ApiAction.of("Purchase item", itemId);
 
-        return executeApiCall(action, endpoint, () -> {
-            try {
-                return postForObject(endpoint, null, PurchaseResponse.class);
-            } catch (HttpClientErrorException.NotFound e) {
-                throw handleNotFound(e, gameId, null);
-            } catch (HttpClientErrorException.BadRequest e) {
-                throw handlePurchaseBadRequest(e);
-            }
-        });
+        return executeApiCall(Operation.PURCHASE_ITEM, action, endpoint, ApiErrorMapper.purchaseFailure(gameId), () ->
+                postForObject(endpoint, purchaseResponseReader)
+        );
     }
 
-    private <T> T executeGetList(String action, String endpoint, TypeReference<T> typeRef, String gameId) {
-        return executeApiCall(action, endpoint, () -> {
-            try {
-                String json = getForString(endpoint);
-                return objectMapper.readValue(json, typeRef);
-            } catch (HttpClientErrorException.NotFound | JsonProcessingException e) {
-                throw new GameNotFoundException(gameId, e);
-            }
+    /**
+     * GETs are idempotent: transient failures are retried and slow calls may be hedged. Only the
+     * HTTP request is hedged: the breaker and limiter permits are taken before, so a wait for a
+     * permit never looks like a slow response and a hedge never takes a permit of its own.
+     */
+    private <T> T executeGetList(Operation operation, ApiAction action, String endpoint, ObjectReader reader, String gameId) {
+        return retryPolicy.execute(operation, () -> {
+            CircuitBreaker.Phase admitted = acquirePermits(operation, endpoint);
+            return invoke(operation, admitted, action, endpoint, ApiErrorMapper.listFailure(gameId), () ->
+                    hedging.execute(operation, () -> getForJson(endpoint, reader, gameId))
+            );
         });
     }
 
-    private <T> T executeApiCall(String action, String endpoint, Supplier<T> callable) {
+    private <T> T executeApiCall(Operation operation, ApiAction action, String endpoint,
+                                 ApiErrorMapper.ClientErrorHandler clientErrors, Supplier<T> callable) {
+        CircuitBreaker.Phase admitted = acquirePermits(operation, endpoint);
+        return invoke(operation, admitted, action, endpoint, clientErrors, callable);
+    }
+
+    private CircuitBreaker.Phase acquirePermits(Operation operation, String endpoint) {
+        CircuitBreaker.Phase admitted = circuitBreakers.acquire(operation, endpoint);
         try {
-            log.info("{} at endpoint: {}", action, endpoint);
-            T result = callable.get();
-            log.info("Successfully completed action: {}", action);
-            return result;
-        } catch (ResourceAccessException e) {
-            throw new ApiConnectionException(endpoint, "Connection failed", e);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            String body = getResponseBody(e);
-            log.error("HTTP error during '{}': {} - {}", action, e.getStatusCode(), snippet(body));
-            throw new ApiResponseException(e.getStatusCode().value(), "Failed to " + action, body, e);
-        } catch (DragonsApiException e) {
+            rateLimiter.acquire(operation);
+        } catch (RateLimitExceededException e) {
+            circuitBreakers.record(operation, admitted, 0, e);
             throw e;
-        } catch (Exception e) {
-            throw new DragonsApiException("Unexpected error during " + action, e);
         }
+        return admitted;
     }
 
-    private <T> T postForObject(String endpoint, Object request, Class<T> responseType) {
-        return Objects.requireNonNull(restTemplate.postForEntity(endpoint, request, responseType).getBody());
-    }
-
-    private String getForString(String endpoint) {
-        String body = restTemplate.getForEntity(endpoint, String.class).getBody();
-        if (body != null && (body.trim().toLowerCase().startsWith("<!doctype") || body.trim().toLowerCase().startsWith("<html"))) {
-            throw new ApiResponseException(400, "Server returned HTML instead of JSON", body, null);
+    private <T> T invoke(Operation operation, CircuitBreaker.Phase admitted, ApiAction action, String endpoint,
+                         ApiErrorMapper.ClientErrorHandler clientErrors, Supplier<T> callable) {
+        long start = metrics.start(operation);
+        try {
+            log.debug("{} at endpoint: {}", action, endpoint);
+            T result = callable.get();
+            metrics.finish(operation, start, null);
+            circuitBreakers.record(operation, admitted, System.nanoTime() - start, null);
+            log.debug("Successfully completed action: {}", action);
+            return result;
+        } catch (HttpClientErrorException e) {
+            DragonsApiException mapped = clientErrors.handle(e);
+            throw failed(operation, admitted, start, mapped != null ? mapped : ApiErrorMapper.translate(action, endpoint, e));
+        } catch (Exception e) {
+            throw failed(operation, admitted, start, ApiErrorMapper.translate(action, endpoint, e));
         }
-        return body;
     }
 
-    private void validateId(String fieldName, String id) {
-        if (id == null || id.trim().isEmpty()) {
-            throw new InvalidRequestException(fieldName, id, "ID cannot be null or empty");
+    private DragonsApiException failed(Operation operation, CircuitBreaker.Phase admitted, long start,
+                                       DragonsApiException error) {
+        metrics.finish(operation, start, error);
+        circuitBreakers.record(operation, admitted, System.nanoTime() - start, error);
+        if (error instanceof RateLimitExceededException rateLimited) {
+            rateLimiter.onRateLimited(rateLimited);
         }
+        return error;
     }
 
-    private DragonsApiException handleNotFound(HttpClientErrorException e, String gameId, String resourceId) {
-        String body = getResponseBody(e);
-        if (resourceId != null && body != null && (body.contains("mission") || body.contains("ad"))) {
-            return new MissionNotFoundException(gameId, resourceId, e);
-        }
-        if (body != null && body.contains("item")) {
-            return new InvalidRequestException("itemId", resourceId, "Item not found in shop");
-        }
-        return new GameNotFoundException(gameId, e);
+    private <T> T postForObject(String endpoint, ObjectReader reader) {
+        T result = restTemplate.execute(endpoint, HttpMethod.POST, ACCEPT_JSON, response -> {
+            try {
+                return JsonBodyReader.read(response.getBody(), reader);
+            } catch (JsonProcessingException e) {
+                throw new ApiResponseException(response.getStatusCode().value(), "Malformed response body", null, e);
+            }
+        });
+        return Objects.requireNonNull(result);
     }
 
-    private DragonsApiException handlePurchaseBadRequest(HttpClientErrorException e) {
-        String body = getResponseBody(e);
-        if (body != null && (body.contains("gold") || body.contains("insufficient"))) {
-            return new InsufficientResourcesException("Not enough gold to purchase item");
-        }
-        return new InvalidRequestException("Purchase failed: " + body);
+    private <T> T getForJson(String endpoint, ObjectReader reader, String gameId) {
+        return restTemplate.execute(endpoint, HttpMethod.GET, ACCEPT_JSON, response -> {
+            try {
+                return JsonBodyReader.read(response.getBody(), reader);
+            } catch (JsonProcessingException e) {
+                throw new GameNotFoundException(gameId, e);
+            }
+        });
     }
 
-    private String getResponseBody(Exception e) {
-        if (e instanceof HttpClientErrorException httpError) {
-            return httpError.getResponseBodyAsString();
-        } else if (e instanceof HttpServerErrorException httpError) {
-            return httpError.getResponseBodyAsString();
-        }
-        return e.getMessage();
+    private void validateId(String fieldName, String id) {
+        ApiErrorMapper.validateId(fieldName, id);
     }
 
     private String buildUrl(String... segments) {
         return baseUrl + "/" + String.join("/", segments);
     }
-
-    private String snippet(String body) {
-        if (body == null) return "null";
-        return body.length() <= 200 ? body : body.substring(0, 200) + "...";
-    }
 }
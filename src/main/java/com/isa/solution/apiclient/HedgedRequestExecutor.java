@@ -0,0 +1,191 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.RetryProperties;
+import com.isa.solution.exception.DragonsApiException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests for idempotent calls: when a call is still running after the configured
+ * latency percentile of recent calls of the same operation, an identical second call is
+ * started and whichever succeeds first is used. The percentile is recomputed once per second
+ * from the calls of the previous interval. Exported as {@code dragons.api.client.hedges}
+ * with {@code result=sent|won}, where {@code won} counts hedges that answered first.
+ */
+@Component
+public class HedgedRequestExecutor implements MeterBinder, DisposableBean {
+
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int MIN_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final Map<Operation, LatencyWindow> windows = new EnumMap<>(Operation.class);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final ExecutorService executor;
+
+    public HedgedRequestExecutor(RetryProperties properties) {
+        RetryProperties.Hedge hedge = properties.hedge();
+        this.enabled = hedge.enabled();
+        this.percentile = hedge.percentile();
+        this.minDelayNanos = hedge.minDelay().toNanos();
+        for (Operation operation : Operation.values()) {
+            windows.put(operation, new LatencyWindow(Math.max(minDelayNanos, hedge.initialDelay().toNanos())));
+        }
+        this.executor = enabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-hedge-", 0).factory())
+                : null;
+    }
+
+    public static HedgedRequestExecutor disabled() {
+        return new HedgedRequestExecutor(RetryProperties.disabled());
+    }
+
+    public <T> T execute(Operation operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        LatencyWindow window = windows.get(operation);
+        long delay = window.hedgeDelay();
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> window.timed(call), executor);
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            sent.increment();
+            CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> window.timed(call), executor);
+            return firstSuccessful(primary, hedge);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DragonsApiException("Interrupted during " + operation.tag(), e);
+        }
+    }
+
+    long hedgesSent() {
+        return sent.sum();
+    }
+
+    long hedgesWon() {
+        return won.sum();
+    }
+
+    long hedgeDelayNanos(Operation operation) {
+        return windows.get(operation).hedgeDelay();
+    }
+
+    private <T> T firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> complete(first, result, error, decided, failures, false));
+        hedge.whenComplete((result, error) -> complete(first, result, error, decided, failures, true));
+        try {
+            return first.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private <T> void complete(CompletableFuture<T> first, T result, Throwable error, AtomicBoolean decided,
+                              AtomicInteger failures, boolean isHedge) {
+        if (error == null) {
+            if (decided.compareAndSet(false, true)) {
+                if (isHedge) {
+                    won.increment();
+                }
+                first.complete(result);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new DragonsApiException("Unexpected error in hedged request", cause);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dragons.api.client.hedges", sent, LongAdder::sum)
+                .description("Hedged Dragons API requests")
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("dragons.api.client.hedges", won, LongAdder::sum)
+                .description("Hedged Dragons API requests")
+                .tag("result", "won")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Latencies of one operation, recorded wait-free and summarised once per interval.
+     */
+    private final class LatencyWindow {
+
+        private final Recorder recorder = new Recorder(3);
+        private final AtomicLong nextRefresh = new AtomicLong(System.nanoTime() + REFRESH_INTERVAL_NANOS);
+        private volatile long delayNanos;
+        private Histogram interval;
+
+        LatencyWindow(long initialDelayNanos) {
+            this.delayNanos = initialDelayNanos;
+        }
+
+        <T> T timed(Supplier<T> call) {
+            long start = System.nanoTime();
+            T result = call.get();
+            recorder.recordValue(Math.max(1, System.nanoTime() - start));
+            return result;
+        }
+
+        long hedgeDelay() {
+            long now = System.nanoTime();
+            long refreshAt = nextRefresh.get();
+            if (now - refreshAt >= 0 && nextRefresh.compareAndSet(refreshAt, now + REFRESH_INTERVAL_NANOS)) {
+                refresh();
+            }
+            return delayNanos;
+        }
+
+        private synchronized void refresh() {
+            interval = recorder.getIntervalHistogram(interval);
+            if (interval.getTotalCount() >= MIN_SAMPLES) {
+                delayNanos = Math.max(minDelayNanos, interval.getValueAtPercentile(percentile));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.isa.solution.apiclient;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isa.solution.exception.ApiResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Deserialises a response body straight from its {@link InputStream}. Only the first
+ * non-whitespace bytes are inspected to reject HTML error pages, so a JSON body is
+ * never materialised as a {@code String}.
+ */
+public final class JsonBodyReader {
+
+    private static final int HTML_PREFIX_LENGTH = "<!doctype".length();
+    private static final int HTML_SNIPPET_LENGTH = 4096;
+
+    private JsonBodyReader() {
+    }
+
+    public static <T> T read(InputStream body, ObjectReader reader) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(body, HTML_PREFIX_LENGTH);
+        rejectHtml(in);
+        try (JsonParser parser = reader.createParser(in)) {
+            return reader.readValue(parser);
+        }
+    }
+
+    private static void rejectHtml(PushbackInputStream in) throws IOException {
+        int first = in.read();
+        while (first == ' ' || first == '\t' || first == '\n' || first == '\r') {
+            first = in.read();
+        }
+        if (first == -1) {
+            return;
+        }
+        if (first != '<') {
+            in.unread(first);
+            return;
+        }
+
+        byte[] prefix = new byte[HTML_PREFIX_LENGTH];
+        prefix[0] = '<';
+        int length = 1 + in.readNBytes(prefix, 1, HTML_PREFIX_LENGTH - 1);
+        String head = new String(prefix, 0, length, StandardCharsets.US_ASCII).toLowerCase(Locale.ROOT);
+        if (head.startsWith("<!doctype") || head.startsWith("<html")) {
+            String body = head + new String(in.readNBytes(HTML_SNIPPET_LENGTH), StandardCharsets.UTF_8);
+            throw new ApiResponseException(400, "Server returned HTML instead of JSON", body, null);
+        }
+        in.unread(prefix, 0, length);
+    }
+}
@@ -0,0 +1,88 @@
+package com.isa.solution.apiclient;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable {@link ObjectReader}/{@link ObjectWriter} instances for every record in
+ * {@code com.isa.solution.model} and for {@code List<T>} of each of them. They are built
+ * once at startup, with their root (de)serialisers already resolved, so the hot path
+ * never goes through type resolution or message-converter lookup.
+ */
+@Component
+public class ModelCodecRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelCodecRegistry.class);
+    static final String MODEL_PACKAGE = "com.isa.solution.model";
+
+    private final Map<Class<?>, ObjectReader> readers;
+    private final Map<Class<?>, ObjectReader> listReaders;
+    private final Map<Class<?>, ObjectWriter> writers;
+
+    public ModelCodecRegistry(ObjectMapper objectMapper) {
+        Set<Class<?>> models = scanModels();
+        Map<Class<?>, ObjectReader> readers = new HashMap<>(models.size() * 2);
+        Map<Class<?>, ObjectReader> listReaders = new HashMap<>(models.size() * 2);
+        Map<Class<?>, ObjectWriter> writers = new HashMap<>(models.size() * 2);
+
+        for (Class<?> model : models) {
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, model);
+            readers.put(model, objectMapper.readerFor(model));
+            listReaders.put(model, objectMapper.readerFor(listType));
+            writers.put(model, objectMapper.writerFor(model));
+        }
+
+        this.readers = Map.copyOf(readers);
+        this.listReaders = Map.copyOf(listReaders);
+        this.writers = Map.copyOf(writers);
+        log.info("Registered JSON codecs for {} API models", models.size());
+    }
+
+    public ObjectReader reader(Class<?> model) {
+        return lookup(readers, model);
+    }
+
+    public ObjectReader listReader(Class<?> model) {
+        return lookup(listReaders, model);
+    }
+
+    public ObjectWriter writer(Class<?> model) {
+        return lookup(writers, model);
+    }
+
+    private static <V> V lookup(Map<Class<?>, V> codecs, Class<?> model) {
+        V codec = codecs.get(model);
+        if (codec == null) {
+            throw new IllegalArgumentException(model.getName() + " is not an API model in " + MODEL_PACKAGE);
+        }
+        return codec;
+    }
+
+    private static Set<Class<?>> scanModels() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) ->
+                Record.class.getName().equals(reader.getClassMetadata().getSuperClassName()));
+
+        ClassLoader classLoader = ModelCodecRegistry.class.getClassLoader();
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(MODEL_PACKAGE);
+        Set<Class<?>> models = new LinkedHashSet<>(candidates.size());
+        for (BeanDefinition candidate : candidates) {
+            models.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return models;
+    }
+}
@@ -0,0 +1,51 @@
+package com.isa.solution.apiclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its virtual-scheduling form (GCRA): the only state is the time at
+ * which the bucket would be full again, advanced with a CAS per permit. A caller reserves a
+ * permit and is told how long to wait before using it, so contended callers queue up in time
+ * instead of spinning or retrying.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Nanoseconds a permit reserved at {@code now} would have to wait, without reserving it.
+     */
+    long waitNanos(long now) {
+        return Math.max(0, theoreticalArrival.get() - burstToleranceNanos - now);
+    }
+
+    /**
+     * Reserves one permit at {@code now}; returns the nanoseconds to wait before using it, or
+     * -1 without reserving anything when the wait would exceed {@code maxWaitNanos}.
+     */
+    long reserve(long now, long maxWaitNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - burstToleranceNanos - now;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
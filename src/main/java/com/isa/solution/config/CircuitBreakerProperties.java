@@ -0,0 +1,47 @@
+package com.isa.solution.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker per Dragons API endpoint. The breaker looks at the last {@code windowSize}
+ * calls of its endpoint and opens when either rate reaches its threshold; while open, calls fail
+ * immediately. After {@code openDuration} it lets {@code halfOpenProbes} calls through and closes
+ * again if all of them succeed.
+ *
+ * @param enabled                when false, every call goes through
+ * @param windowSize             calls per endpoint the rates are computed from
+ * @param minimumCalls           calls needed in the window before the breaker may open
+ * @param failureRateThreshold   percentage of connection errors and 5xx responses that opens it
+ * @param slowCallDuration       calls taking at least this long count as slow
+ * @param slowCallRateThreshold  percentage of slow calls that opens it
+ * @param openDuration           how long the breaker fails fast before probing
+ * @param halfOpenProbes         trial calls that must succeed to close it again
+ */
+@ConfigurationProperties(prefix = "dragons.api.circuit-breaker")
+public record CircuitBreakerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") int windowSize,
+        @DefaultValue("20") int minimumCalls,
+        @DefaultValue("50") double failureRateThreshold,
+        @DefaultValue("5s") Duration slowCallDuration,
+        @DefaultValue("80") double slowCallRateThreshold,
+        @DefaultValue("10s") Duration openDuration,
+        @DefaultValue("3") int halfOpenProbes
+) {
+
+    public CircuitBreakerProperties {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes must be at least 1");
+        }
+    }
+
+    public static CircuitBreakerProperties disabled() {
+        return new CircuitBreakerProperties(false, 50, 20, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(10), 3);
+    }
+}
@@ -3,32 +3,40 @@ package com.isa.solution.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
+@EnableConfigurationProperties({
+        HttpTransportProperties.class,
+        RateLimitProperties.class,
+        RetryProperties.class,
+        CircuitBreakerProperties.class
+})
 public class DragonsApiConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder, ObjectMapper objectMapper) {
+    public DragonsHttpTransport dragonsHttpTransport(HttpTransportProperties properties, MeterRegistry meterRegistry) {
+        return DragonsHttpTransport.create(properties, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ObjectMapper objectMapper, DragonsHttpTransport transport) {
         return builder
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(30))
                 .additionalMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(
-                        new SimpleClientHttpRequestFactory()))
+                .requestFactory(transport::requestFactory)
                 .build();
     }
 
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(@Value("${dragons.api.json.blackbird:false}") boolean blackbird) {
         ObjectMapper mapper = new ObjectMapper();
 
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -37,6 +45,10 @@ public class DragonsApiConfig {
 
         mapper.setPropertyNamingStrategy(PropertyNamingStrategy.LOWER_CAMEL_CASE);
 
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+
         return mapper;
     }
-}
\ No newline at end of file
+}
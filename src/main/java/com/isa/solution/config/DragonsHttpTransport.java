@@ -0,0 +1,154 @@
+package com.isa.solution.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Owns the {@link ClientHttpRequestFactory} behind the Dragons API {@code RestTemplate} and
+ * the connection pool it uses. Pool utilisation ({@code httpcomponents.httpclient.pool.*})
+ * and the time spent waiting for a pooled connection ({@code dragons.api.http.connection.acquire})
+ * are exported to Micrometer for the {@code apache} transport.
+ */
+public class DragonsHttpTransport implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DragonsHttpTransport.class);
+    private static final String POOL_NAME = "dragons-api";
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final CloseableHttpClient pooledClient;
+
+    private DragonsHttpTransport(ClientHttpRequestFactory requestFactory, CloseableHttpClient pooledClient, boolean buffer) {
+        this.requestFactory = buffer ? new BufferingClientHttpRequestFactory(requestFactory) : requestFactory;
+        this.pooledClient = pooledClient;
+    }
+
+    public static DragonsHttpTransport create(HttpTransportProperties properties, MeterRegistry meterRegistry) {
+        log.info("Dragons API transport: {} (buffered responses: {})", properties.type(), properties.bufferResponses());
+        return switch (properties.type()) {
+            case APACHE -> pooled(properties, meterRegistry);
+            case JDK -> jdk(properties);
+            case SIMPLE -> simple(properties);
+        };
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (pooledClient != null) {
+            pooledClient.close();
+        }
+    }
+
+    private static DragonsHttpTransport pooled(HttpTransportProperties properties, MeterRegistry meterRegistry) {
+        Timer acquireTimer = Timer.builder("dragons.api.http.connection.acquire")
+                .description("Time spent waiting for a pooled connection to the Dragons API")
+                .tag("pool", POOL_NAME)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(acquireTimer);
+        connectionManager.setMaxTotal(properties.maxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.maxConnectionsPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        TimeValue keepAlive = TimeValue.of(properties.keepAlive());
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.idleEviction()))
+                .build();
+
+        return new DragonsHttpTransport(
+                new HttpComponentsClientHttpRequestFactory(httpClient), httpClient, properties.bufferResponses());
+    }
+
+    private static DragonsHttpTransport jdk(HttpTransportProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(properties.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.readTimeout());
+        return new DragonsHttpTransport(requestFactory, null, properties.bufferResponses());
+    }
+
+    private static DragonsHttpTransport simple(HttpTransportProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.connectTimeout());
+        requestFactory.setReadTimeout(properties.readTimeout());
+        return new DragonsHttpTransport(requestFactory, null, properties.bufferResponses());
+    }
+
+    /**
+     * Records how long each request waited to lease a connection, which is the signal
+     * for sizing {@code max-connections-per-route} against game concurrency.
+     */
+    static final class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer acquireTimer;
+
+        InstrumentedConnectionManager(Timer acquireTimer) {
+            this.acquireTimer = acquireTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            long start = System.nanoTime();
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.isa.solution.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport used for all calls to the Dragons API.
+ *
+ * @param type                     {@code apache} (pooled keep-alive connections, default),
+ *                                 {@code jdk} (java.net.http client, supports HTTP/2) or
+ *                                 {@code simple} (HttpURLConnection, the legacy transport)
+ * @param maxConnections           pool size across all routes ({@code apache} only)
+ * @param maxConnectionsPerRoute   pool size per host; the Dragons API is a single route ({@code apache} only)
+ * @param connectionRequestTimeout how long a call may wait for a pooled connection ({@code apache} only)
+ * @param keepAlive                how long an idle connection may be reused
+ * @param idleEviction             idle connections older than this are closed by a background thread
+ * @param http2                    negotiate HTTP/2 ({@code jdk} only)
+ * @param bufferResponses          diagnostic mode: buffer every response body so it can be read twice
+ */
+@ConfigurationProperties(prefix = "dragons.api.transport")
+public record HttpTransportProperties(
+        @DefaultValue("apache") Type type,
+        @DefaultValue("10s") Duration connectTimeout,
+        @DefaultValue("30s") Duration readTimeout,
+        @DefaultValue("5s") Duration connectionRequestTimeout,
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("100") int maxConnectionsPerRoute,
+        @DefaultValue("30s") Duration keepAlive,
+        @DefaultValue("60s") Duration idleEviction,
+        @DefaultValue("false") boolean http2,
+        @DefaultValue("false") boolean bufferResponses
+) {
+
+    public enum Type { APACHE, JDK, SIMPLE }
+
+    public static HttpTransportProperties defaults() {
+        return new HttpTransportProperties(Type.APACHE, Duration.ofSeconds(10), Duration.ofSeconds(30),
+                Duration.ofSeconds(5), 200, 100, Duration.ofSeconds(30), Duration.ofSeconds(60), false, false);
+    }
+}
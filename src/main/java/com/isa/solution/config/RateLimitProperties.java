@@ -0,0 +1,63 @@
+package com.isa.solution.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Client-side rate limits of the Dragons API, shared by every game in the JVM.
+ *
+ * @param enabled           when false, calls are neither throttled nor paused after a 429
+ * @param permitsPerSecond  sustained rate of each endpoint without an entry in {@code endpoints}
+ * @param burst             calls an idle endpoint may make at once
+ * @param maxWait           longest a call waits for a permit or a {@code Retry-After} pause before
+ *                          failing with {@code RateLimitExceededException}
+ * @param defaultRetryAfter pause after a 429 without a usable {@code Retry-After} header
+ * @param endpoints         limits per endpoint: {@code startGame}, {@code getMissions},
+ *                          {@code solveMission}, {@code getShopItems}, {@code purchaseItem}
+ */
+@ConfigurationProperties(prefix = "dragons.api.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") double permitsPerSecond,
+        @DefaultValue("50") int burst,
+        @DefaultValue("10s") Duration maxWait,
+        @DefaultValue("1s") Duration defaultRetryAfter,
+        @DefaultValue Map<String, Limit> endpoints
+) {
+
+    public RateLimitProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    /**
+     * @param permitsPerSecond sustained rate of the endpoint
+     * @param burst            calls the idle endpoint may make at once
+     */
+    public record Limit(double permitsPerSecond, @DefaultValue("1") int burst) {
+    }
+
+    public static RateLimitProperties disabled() {
+        return new RateLimitProperties(false, 200, 50, Duration.ofSeconds(10), Duration.ofSeconds(1), Map.of());
+    }
+
+    /**
+     * Limit of one endpoint; keys match regardless of case and dashes, so {@code solve-mission}
+     * and {@code solveMission} are the same endpoint.
+     */
+    public Limit limitFor(String endpoint) {
+        String wanted = normalize(endpoint);
+        return endpoints.entrySet().stream()
+                .filter(entry -> normalize(entry.getKey()).equals(wanted))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(new Limit(permitsPerSecond, burst));
+    }
+
+    private static String normalize(String key) {
+        return key.replace("-", "").toLowerCase(Locale.ROOT);
+    }
+}
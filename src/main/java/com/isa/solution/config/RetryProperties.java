@@ -0,0 +1,75 @@
+package com.isa.solution.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retries and hedging of the idempotent Dragons API calls (mission board and shop listing).
+ *
+ * @param maxAttempts    attempts per call including the first; 1 disables retries
+ * @param initialBackoff pause before the first retry
+ * @param maxBackoff     upper bound of the pause between attempts
+ * @param multiplier     growth of the pause per attempt
+ * @param jitter         fraction of each pause that is randomised: 0 for none, 1 for a pause
+ *                       anywhere between zero and the computed backoff
+ * @param hedge          hedged requests
+ */
+@ConfigurationProperties(prefix = "dragons.api.retry")
+public record RetryProperties(
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("100ms") Duration initialBackoff,
+        @DefaultValue("2s") Duration maxBackoff,
+        @DefaultValue("2.0") double multiplier,
+        @DefaultValue("0.5") double jitter,
+        @DefaultValue Hedge hedge
+) {
+
+    public RetryProperties {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1");
+        }
+    }
+
+    /**
+     * A GET still running after the {@code percentile} latency of recent calls is sent a second
+     * time, and whichever response arrives first is used.
+     *
+     * @param enabled      send hedged requests
+     * @param percentile   latency percentile of recent calls that triggers the hedge, e.g. 95
+     * @param minDelay     the hedge is never sent earlier than this
+     * @param initialDelay hedge delay until enough calls have been observed
+     */
+    public record Hedge(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("95") double percentile,
+            @DefaultValue("20ms") Duration minDelay,
+            @DefaultValue("250ms") Duration initialDelay
+    ) {
+
+        public Hedge {
+            if (percentile <= 0 || percentile >= 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+        }
+
+        public static Hedge disabled() {
+            return new Hedge(false, 95, Duration.ofMillis(20), Duration.ofMillis(250));
+        }
+    }
+
+    public static RetryProperties defaults() {
+        return new RetryProperties(3, Duration.ofMillis(100), Duration.ofSeconds(2), 2.0, 0.5, Hedge.disabled());
+    }
+
+    public static RetryProperties disabled() {
+        return new RetryProperties(1, Duration.ZERO, Duration.ZERO, 1.0, 0, Hedge.disabled());
+    }
+}
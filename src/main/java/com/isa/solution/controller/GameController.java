@@ -1,14 +1,21 @@
 package com.isa.solution.controller;
 
+import com.isa.solution.exception.InvalidRequestException;
 import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.model.ResultRetention;
 import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.GameResultAggregator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/game")
 public class GameController {
@@ -21,15 +28,28 @@ public class GameController {
     }
 
     @PostMapping("/play")
-    public ResponseEntity<GamePlayResponse> playGame() {
-        log.info("Received request to play game");
-
-        GamePlayResponse response = gamePlayService.playGame();
-
-        log.info("Completed playing game. Success: {}, Score: {}",
-                response.successfulGames() > 0,
+    public ResponseEntity<GamePlayResponse> playGame(
+            @RequestParam(value = "games", defaultValue = "1") int games,
+            @RequestParam(value = "parallelism", defaultValue = "1") int parallelism,
+            @RequestParam(value = "results", defaultValue = "all") String results,
+            @RequestParam(value = "sampleSize", defaultValue = "100") int sampleSize
+    ) {
+        log.info("Received request to play {} game(s) with parallelism {}", games, parallelism);
+
+        GameResultAggregator aggregator = gamePlayService.aggregator(ResultRetention.parse(results), sampleSize);
+        GamePlayResponse response = gamePlayService.playGames(games, parallelism, aggregator);
+
+        log.info("Completed playing {} game(s). Successful: {}, Highest score: {}",
+                response.totalGamesPlayed(),
+                response.successfulGames(),
                 response.highestScore());
 
         return ResponseEntity.ok(response);
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException e) {
+        log.warn("Rejected play request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("errorCode", e.getErrorCode(), "message", e.getMessage()));
+    }
 }
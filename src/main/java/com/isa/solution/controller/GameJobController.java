@@ -0,0 +1,74 @@
+package com.isa.solution.controller;
+
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.JobCapacityExceededException;
+import com.isa.solution.model.GameJobStatus;
+import com.isa.solution.service.GameJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/game/jobs")
+public class GameJobController {
+
+    private static final Logger log = LoggerFactory.getLogger(GameJobController.class);
+    private final GameJobService gameJobService;
+
+    public GameJobController(GameJobService gameJobService) {
+        this.gameJobService = gameJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<GameJobStatus> submitJob(
+            @RequestParam(value = "games", defaultValue = "1") int games,
+            @RequestParam(value = "parallelism", defaultValue = "1") int parallelism
+    ) {
+        log.info("Received job request for {} game(s) with parallelism {}", games, parallelism);
+
+        GameJobStatus status = gameJobService.submit(games, parallelism);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(status.jobId())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<GameJobStatus> getJob(@PathVariable("id") String id) {
+        return ResponseEntity.of(gameJobService.status(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<GameJobStatus> cancelJob(@PathVariable("id") String id) {
+        return ResponseEntity.of(gameJobService.cancel(id));
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException e) {
+        log.warn("Rejected job request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("errorCode", e.getErrorCode(), "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(JobCapacityExceededException.class)
+    public ResponseEntity<Map<String, String>> handleCapacityExceeded(JobCapacityExceededException e) {
+        log.warn("Rejected job request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(Map.of("errorCode", e.getErrorCode(), "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.isa.solution.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.StreamCapacityExceededException;
+import com.isa.solution.model.GameEvent;
+import com.isa.solution.service.GameEventStream;
+import com.isa.solution.service.GameStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequestMapping("/api/game")
+public class GameStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStreamController.class);
+    private final GameStreamService gameStreamService;
+    private final ObjectMapper objectMapper;
+
+    public GameStreamController(GameStreamService gameStreamService, ObjectMapper objectMapper) {
+        this.gameStreamService = gameStreamService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Plays a batch and writes one JSON event per line as the games progress. Each line is
+     * flushed on its own; while the client does not read, the games wait for it. The stream is
+     * closed when the request completes, also when it times out or fails before the body runs.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGames(
+            @RequestParam(value = "games", defaultValue = "1") int games,
+            @RequestParam(value = "parallelism", defaultValue = "1") int parallelism,
+            @RequestParam(value = "turns", defaultValue = "false") boolean turns,
+            WebRequest request
+    ) {
+        log.info("Received stream request for {} game(s) with parallelism {}, turn events: {}", games, parallelism, turns);
+
+        GameEventStream stream = gameStreamService.open(games, parallelism, turns);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(stream, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                stream.close();
+            }
+        });
+        StreamingResponseBody body = out -> {
+            try {
+                GameEvent event;
+                while ((event = stream.next()) != null) {
+                    out.write(objectMapper.writeValueAsBytes(event));
+                    out.write('\n');
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.info("Game stream closed by the client: {}", e.getMessage());
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException e) {
+        log.warn("Rejected stream request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("errorCode", e.getErrorCode(), "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    public ResponseEntity<Map<String, String>> handleCapacityExceeded(StreamCapacityExceededException e) {
+        log.warn("Rejected stream request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(Map.of("errorCode", e.getErrorCode(), "message", e.getMessage()));
+    }
+}
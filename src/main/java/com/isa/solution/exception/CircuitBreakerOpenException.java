@@ -0,0 +1,19 @@
+package com.isa.solution.exception;
+
+/**
+ * Exception thrown without calling the API because its circuit breaker is open.
+ */
+public class CircuitBreakerOpenException extends ApiConnectionException {
+
+    private final String operation;
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public CircuitBreakerOpenException(String endpoint, String operation) {
+        super(endpoint, String.format("Circuit breaker for '%s' is open", operation));
+        this.operation = operation;
+    }
+
+}
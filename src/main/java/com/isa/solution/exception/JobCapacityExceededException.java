@@ -0,0 +1,13 @@
+package com.isa.solution.exception;
+
+/**
+ * Exception thrown when a batch job is submitted while the job queue is full.
+ */
+public class JobCapacityExceededException extends DragonsApiException {
+
+    public JobCapacityExceededException(int maxQueued) {
+        super("JOB_CAPACITY_EXCEEDED",
+                String.format("Too many game jobs queued (max %d), try again later", maxQueued));
+    }
+
+}
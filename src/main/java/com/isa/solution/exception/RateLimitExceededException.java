@@ -27,4 +27,9 @@ public class RateLimitExceededException extends DragonsApiException {
         this.retryAfterSeconds = null;
     }
 
+    public RateLimitExceededException(String message, Integer retryAfterSeconds) {
+        super("RATE_LIMIT_EXCEEDED", message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.isa.solution.exception;
+
+/**
+ * Exception thrown when a game stream is requested while the maximum number of streams is open.
+ */
+public class StreamCapacityExceededException extends DragonsApiException {
+
+    public StreamCapacityExceededException(int maxStreams) {
+        super("STREAM_CAPACITY_EXCEEDED",
+                String.format("Too many game streams open (max %d), try again later", maxStreams));
+    }
+
+}
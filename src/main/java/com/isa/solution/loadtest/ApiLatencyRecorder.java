@@ -0,0 +1,59 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms of every {@link com.isa.solution.apiclient.DragonsApiClient} method,
+ * recorded in microseconds with three significant digits up to one minute.
+ */
+public class ApiLatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public ApiLatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(Operation operation, long elapsedNanos, boolean failed) {
+        long micros = Math.max(1, Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        histograms.get(operation).recordValue(micros);
+        if (failed) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long totalCalls() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public Map<Operation, Histogram> histograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+}
@@ -0,0 +1,84 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics;
+import com.isa.solution.apiclient.ApiCircuitBreakers;
+import com.isa.solution.apiclient.ApiRateLimiter;
+import com.isa.solution.apiclient.ApiRetryPolicy;
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.apiclient.DragonsApiClientImpl;
+import com.isa.solution.apiclient.HedgedRequestExecutor;
+import com.isa.solution.apiclient.ModelCodecRegistry;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.simulator.DragonsSimulator;
+import com.isa.solution.simulator.SimulatorSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+/**
+ * Wiring of the {@code loadtest} profile: every Dragons API call made by the game loop is
+ * timed, and the games are played against an embedded simulator unless
+ * {@code dragons.loadtest.embedded-simulator=false}.
+ */
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "dragons.loadtest", name = "embedded-simulator", matchIfMissing = true)
+    public DragonsSimulator loadTestSimulator(LoadTestProperties properties) throws IOException {
+        SimulatorSettings settings = SimulatorSettings.defaults()
+                .withSeed(properties.seed())
+                .withLatency(properties.simulatorLatency(), properties.simulatorJitter())
+                .withErrorRate(properties.simulatorErrorRate());
+        return DragonsSimulator.start(settings, 0);
+    }
+
+    @Bean
+    public ApiLatencyRecorder apiLatencyRecorder() {
+        return new ApiLatencyRecorder();
+    }
+
+    @Bean
+    @Primary
+    public DragonsApiClient recordingDragonsApiClient(
+            DragonsApiClientImpl configuredClient,
+            ObjectProvider<DragonsSimulator> simulator,
+            RestTemplate restTemplate,
+            ModelCodecRegistry codecs,
+            ApiCallMetrics metrics,
+            ApiRateLimiter rateLimiter,
+            ApiRetryPolicy retryPolicy,
+            HedgedRequestExecutor hedging,
+            ApiCircuitBreakers circuitBreakers,
+            ApiLatencyRecorder recorder
+    ) {
+        DragonsSimulator embedded = simulator.getIfAvailable();
+        DragonsApiClient target = embedded == null
+                ? configuredClient
+                : new DragonsApiClientImpl(restTemplate, codecs, embedded.baseUrl(), metrics, rateLimiter,
+                        retryPolicy, hedging, circuitBreakers);
+        return new RecordingDragonsApiClient(target, recorder);
+    }
+
+    @Bean
+    public LoadTestRunner loadTestRunner(
+            GamePlayService gamePlayService,
+            ApiLatencyRecorder recorder,
+            LoadTestProperties properties,
+            @Value("${dragons.game.max-games-per-request:1000}") int maxGamesPerRequest,
+            ApplicationContext context
+    ) {
+        return new LoadTestRunner(gamePlayService, recorder, properties, maxGamesPerRequest, context);
+    }
+}
@@ -0,0 +1,32 @@
+package com.isa.solution.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@code loadtest} profile.
+ *
+ * @param games              games to play in total
+ * @param concurrency        games in flight at the same time
+ * @param embeddedSimulator  play against an in-process {@link com.isa.solution.simulator.DragonsSimulator};
+ *                           when false, {@code dragons.api.base-url} is used
+ * @param seed               simulator seed
+ * @param simulatorLatency   simulator response time per call
+ * @param simulatorJitter    extra random simulator delay per call
+ * @param simulatorErrorRate fraction of simulator calls answered with HTTP 500
+ * @param targetGamesPerHour when positive, the report estimates how many JVMs this rate needs
+ */
+@ConfigurationProperties(prefix = "dragons.loadtest")
+public record LoadTestProperties(
+        @DefaultValue("1000") int games,
+        @DefaultValue("50") int concurrency,
+        @DefaultValue("true") boolean embeddedSimulator,
+        @DefaultValue("42") long seed,
+        @DefaultValue("20ms") Duration simulatorLatency,
+        @DefaultValue("0ms") Duration simulatorJitter,
+        @DefaultValue("0") double simulatorErrorRate,
+        @DefaultValue("0") long targetGamesPerHour
+) {
+}
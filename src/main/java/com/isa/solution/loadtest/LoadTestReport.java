@@ -0,0 +1,96 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of a load test run: throughput, API calls per game and latency percentiles per
+ * client method. Latencies are in milliseconds.
+ */
+public record LoadTestReport(
+        int games,
+        int successfulGames,
+        double averageScore,
+        Duration duration,
+        long apiCalls,
+        List<OperationLatency> operations,
+        long targetGamesPerHour
+) {
+
+    public record OperationLatency(Operation operation, long calls, long errors,
+                                   double p50, double p90, double p99, double max) {
+
+        static OperationLatency of(Operation operation, Histogram histogram, long errors) {
+            return new OperationLatency(operation, histogram.getTotalCount(), errors,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    static LoadTestReport of(int games, int successfulGames, double averageScore, Duration duration,
+                             ApiLatencyRecorder recorder, long targetGamesPerHour) {
+        List<OperationLatency> operations = new ArrayList<>();
+        for (Map.Entry<Operation, Histogram> entry : recorder.histograms().entrySet()) {
+            if (entry.getValue().getTotalCount() > 0) {
+                operations.add(OperationLatency.of(entry.getKey(), entry.getValue(), recorder.errors(entry.getKey())));
+            }
+        }
+        return new LoadTestReport(games, successfulGames, averageScore, duration, recorder.totalCalls(),
+                List.copyOf(operations), targetGamesPerHour);
+    }
+
+    public double gamesPerSecond() {
+        double seconds = duration.toNanos() / 1e9;
+        return seconds > 0 ? games / seconds : 0;
+    }
+
+    public double gamesPerHour() {
+        return gamesPerSecond() * 3600;
+    }
+
+    public double callsPerGame() {
+        return games > 0 ? (double) apiCalls / games : 0;
+    }
+
+    /**
+     * JVMs of the measured size needed for {@code targetGamesPerHour}, or 0 when no target is set.
+     */
+    public long jvmsForTarget() {
+        double perHour = gamesPerHour();
+        if (targetGamesPerHour <= 0 || perHour <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(targetGamesPerHour / perHour);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Load test: %d games (%d successful, average score %.1f) in %.1f s%n",
+                games, successfulGames, averageScore, duration.toMillis() / 1000.0));
+        out.append(String.format(Locale.ROOT, "Throughput: %.2f games/s, %.0f games/h, %.1f API calls per game%n",
+                gamesPerSecond(), gamesPerHour(), callsPerGame()));
+        out.append(String.format(Locale.ROOT, "%-16s %9s %7s %9s %9s %9s %9s%n",
+                "operation", "calls", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (OperationLatency op : operations) {
+            out.append(String.format(Locale.ROOT, "%-16s %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    op.operation(), op.calls(), op.errors(), op.p50(), op.p90(), op.p99(), op.max()));
+        }
+        if (targetGamesPerHour > 0) {
+            out.append(String.format(Locale.ROOT, "Target %d games/h needs %d JVM(s) at this rate%n",
+                    targetGamesPerHour, jvmsForTarget()));
+        }
+        return out.toString();
+    }
+}
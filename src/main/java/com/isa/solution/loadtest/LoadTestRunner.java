@@ -0,0 +1,74 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.GameResultAggregator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Duration;
+
+/**
+ * Plays {@link LoadTestProperties#games()} games through {@link GamePlayService}, at most
+ * {@code maxGamesPerRequest} per batch, and logs a {@link LoadTestReport}. When started by the
+ * {@code loadtest} profile the application exits once the report is written.
+ */
+public class LoadTestRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final GamePlayService gamePlayService;
+    private final ApiLatencyRecorder recorder;
+    private final LoadTestProperties properties;
+    private final int maxGamesPerRequest;
+    private final ApplicationContext context;
+
+    public LoadTestRunner(GamePlayService gamePlayService, ApiLatencyRecorder recorder,
+                          LoadTestProperties properties, int maxGamesPerRequest) {
+        this(gamePlayService, recorder, properties, maxGamesPerRequest, null);
+    }
+
+    public LoadTestRunner(GamePlayService gamePlayService, ApiLatencyRecorder recorder,
+                          LoadTestProperties properties, int maxGamesPerRequest, ApplicationContext context) {
+        if (properties.games() < 1 || properties.concurrency() < 1) {
+            throw new IllegalArgumentException("games and concurrency must be at least 1");
+        }
+        this.gamePlayService = gamePlayService;
+        this.recorder = recorder;
+        this.properties = properties;
+        this.maxGamesPerRequest = maxGamesPerRequest;
+        this.context = context;
+    }
+
+    public LoadTestReport execute() {
+        recorder.reset();
+        int remaining = properties.games();
+        GameResultAggregator results = GameResultAggregator.summaryOnly();
+
+        long start = System.nanoTime();
+        while (remaining > 0) {
+            int batch = Math.min(remaining, maxGamesPerRequest);
+            gamePlayService.playGames(batch, properties.concurrency(), results);
+            remaining -= batch;
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        GamePlayResponse summary = results.toResponse();
+        return LoadTestReport.of(properties.games(), summary.successfulGames(), summary.averageScore(),
+                duration, recorder, properties.targetGamesPerHour());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Load test: {} games at concurrency {}", properties.games(), properties.concurrency());
+        LoadTestReport report = execute();
+        log.info("\n{}", report.format());
+        if (context != null) {
+            SpringApplication.exit(context);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Times every call of the wrapped client into an {@link ApiLatencyRecorder}.
+ */
+public class RecordingDragonsApiClient implements DragonsApiClient {
+
+    private final DragonsApiClient delegate;
+    private final ApiLatencyRecorder recorder;
+
+    public RecordingDragonsApiClient(DragonsApiClient delegate, ApiLatencyRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Game startGame() {
+        return record(Operation.START_GAME, delegate::startGame);
+    }
+
+    @Override
+    public List<Message> getAllMissions(String gameId) {
+        return record(Operation.GET_MISSIONS, () -> delegate.getAllMissions(gameId));
+    }
+
+    @Override
+    public SolveResponse solveMission(String gameId, String missionId) {
+        return record(Operation.SOLVE_MISSION, () -> delegate.solveMission(gameId, missionId));
+    }
+
+    @Override
+    public List<ShopItem> getShopItems(String gameId) {
+        return record(Operation.GET_SHOP_ITEMS, () -> delegate.getShopItems(gameId));
+    }
+
+    @Override
+    public PurchaseResponse purchaseItem(String gameId, String itemId) {
+        return record(Operation.PURCHASE_ITEM, () -> delegate.purchaseItem(gameId, itemId));
+    }
+
+    private <T> T record(Operation operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            recorder.record(operation, System.nanoTime() - start, failed);
+        }
+    }
+}
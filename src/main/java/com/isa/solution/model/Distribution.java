@@ -0,0 +1,15 @@
+package com.isa.solution.model;
+
+/**
+ * Summary of a histogram of per-game values. Percentiles are accurate to three significant digits.
+ */
+public record Distribution(
+    long count,
+    long min,
+    long max,
+    double mean,
+    long p50,
+    long p90,
+    long p99
+) {
+}
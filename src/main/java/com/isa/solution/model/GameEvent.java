@@ -0,0 +1,44 @@
+package com.isa.solution.model;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * An event of a streamed batch, written as one JSON object with a {@code type} property.
+ * {@code GAME_FINISHED} is sent for every game; the turn events only when requested.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(GameEvent.MissionChosen.class),
+        @JsonSubTypes.Type(GameEvent.MissionSolved.class),
+        @JsonSubTypes.Type(GameEvent.PotionBought.class),
+        @JsonSubTypes.Type(GameEvent.GameFinished.class),
+        @JsonSubTypes.Type(GameEvent.StreamFailed.class)
+})
+public sealed interface GameEvent {
+
+    @JsonTypeName("MISSION_CHOSEN")
+    record MissionChosen(String gameId, int turn, String adId, String probability, int reward) implements GameEvent {
+    }
+
+    @JsonTypeName("MISSION_SOLVED")
+    record MissionSolved(String gameId, int turn, String adId, boolean success, int score, int lives, int gold)
+            implements GameEvent {
+    }
+
+    @JsonTypeName("POTION_BOUGHT")
+    record PotionBought(String gameId, int turn, int lives, int gold) implements GameEvent {
+    }
+
+    @JsonTypeName("GAME_FINISHED")
+    record GameFinished(GameResult result) implements GameEvent {
+    }
+
+    /**
+     * Last event of a stream whose batch could not be played to the end.
+     */
+    @JsonTypeName("STREAM_FAILED")
+    record StreamFailed(String message) implements GameEvent {
+    }
+}
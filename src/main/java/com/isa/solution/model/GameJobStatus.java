@@ -0,0 +1,29 @@
+package com.isa.solution.model;
+
+import java.time.Instant;
+
+/**
+ * Progress of an asynchronous batch of games. The aggregates cover the games finished so far.
+ *
+ * @param state          {@code QUEUED}, {@code RUNNING}, {@code COMPLETED}, {@code CANCELLED} or {@code FAILED}
+ * @param completedGames games finished so far, successful or not
+ * @param averageScore   average final score of the finished games, 0 before the first one ends
+ * @param error          why the job failed, {@code null} otherwise
+ */
+public record GameJobStatus(
+    String jobId,
+    String state,
+    int totalGames,
+    int parallelism,
+    int completedGames,
+    int successfulGames,
+    int failedGames,
+    double averageScore,
+    int highestScore,
+    int lowestScore,
+    Instant submittedAt,
+    Instant startedAt,
+    Instant finishedAt,
+    String error
+) {
+}
@@ -2,6 +2,11 @@ package com.isa.solution.model;
 
 import java.util.List;
 
+/**
+ * @param gameResults       every result, a sample of them or none, as requested by {@link ResultRetention}
+ * @param scoreDistribution final scores of all games
+ * @param turnDistribution  turns played by all games
+ */
 public record GamePlayResponse(
     int totalGamesPlayed,
     int successfulGames,
@@ -9,6 +14,8 @@ public record GamePlayResponse(
     double averageScore,
     int highestScore,
     int lowestScore,
-    List<GameResult> gameResults
+    List<GameResult> gameResults,
+    Distribution scoreDistribution,
+    Distribution turnDistribution
 ) {
 }
@@ -1,10 +1,22 @@
 package com.isa.solution.model;
 
+/**
+ * @param prefetchedTurns     turns on which the shop and the mission board were fetched concurrently
+ * @param savedLatencyMillis  round-trip time saved by those concurrent fetches, compared with issuing them one after the other
+ * @param skipsAvoided        loop iterations that would have been skipped, up to the forced fallback, had the encrypted ads not been decoded
+ */
 public record GameResult(
     String gameId,
     int finalScore,
     int turnsPlayed,
     boolean success,
-    String failureReason
+    String failureReason,
+    int prefetchedTurns,
+    long savedLatencyMillis,
+    int skipsAvoided
 ) {
+
+    public GameResult(String gameId, int finalScore, int turnsPlayed, boolean success, String failureReason) {
+        this(gameId, finalScore, turnsPlayed, success, failureReason, 0, 0, 0);
+    }
 }
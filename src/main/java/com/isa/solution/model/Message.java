@@ -1,8 +1,13 @@
 package com.isa.solution.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * @param level {@code probability} decoded when the message is created; not part of the JSON
+ */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record Message(
     @JsonProperty("adId") String adId,
@@ -10,6 +15,19 @@ public record Message(
     @JsonProperty("probability") String probability,
     @JsonProperty("expiresIn") int expiresIn,
     @JsonProperty("reward") int reward,
-    @JsonProperty("encrypted") Integer encrypted
+    @JsonProperty("encrypted") Integer encrypted,
+    @JsonIgnore Probability level
 ) {
+
+    @JsonCreator
+    public Message(
+        @JsonProperty("adId") String adId,
+        @JsonProperty("message") String message,
+        @JsonProperty("probability") String probability,
+        @JsonProperty("expiresIn") int expiresIn,
+        @JsonProperty("reward") int reward,
+        @JsonProperty("encrypted") Integer encrypted
+    ) {
+        this(adId, message, probability, expiresIn, reward, encrypted, Probability.fromLabel(probability));
+    }
 }
@@ -0,0 +1,57 @@
+package com.isa.solution.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Probability label of a mission, decoded once when the mission is read. Constants are ordered
+ * from the safest to the riskiest label, so safety checks compare ordinals. Labels the game does
+ * not document, and the labels of encrypted missions before decoding, map to {@link #UNKNOWN}, which
+ * comes last.
+ */
+public enum Probability {
+
+    SURE_THING("Sure Thing", 1.0),
+    PIECE_OF_CAKE("Piece of Cake", 0.95),
+    WALK_IN_THE_PARK("Walk in the park", 0.85),
+    QUITE_LIKELY("Quite likely", 0.70),
+    HMMM("Hmmm....", 0.50),
+    RISKY("Risky", 0.35),
+    PLAYING_WITH_FIRE("Playing with fire", 0.20),
+    SUICIDE_MISSION("Suicide mission", 0.05),
+    IMPOSSIBLE("Impossible", 0.0),
+    UNKNOWN(null, 0.0);
+
+    private static final Map<String, Probability> BY_LABEL = new HashMap<>();
+
+    static {
+        for (Probability probability : values()) {
+            if (probability.label != null) {
+                BY_LABEL.put(probability.label, probability);
+            }
+        }
+    }
+
+    private final String label;
+    private final double successRate;
+
+    Probability(String label, double successRate) {
+        this.label = label;
+        this.successRate = successRate;
+    }
+
+    public static Probability fromLabel(String label) {
+        return label == null ? UNKNOWN : BY_LABEL.getOrDefault(label, UNKNOWN);
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Expected chance that a mission with this label succeeds.
+     */
+    public double successRate() {
+        return successRate;
+    }
+}
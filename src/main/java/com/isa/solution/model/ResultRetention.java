@@ -0,0 +1,26 @@
+package com.isa.solution.model;
+
+import com.isa.solution.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * Which per-game results a batch response carries. The aggregates always cover every game.
+ */
+public enum ResultRetention {
+
+    /** Every result, in the order the games finished. */
+    ALL,
+    /** A uniform random sample of a fixed size. */
+    SAMPLE,
+    /** No per-game results. */
+    NONE;
+
+    public static ResultRetention parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("results", value, "must be one of all, sample, none");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.GameEvent;
+
+/**
+ * Receives the events of a game on the thread that plays it. A listener may block, which holds
+ * the game until the event is taken.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    GameEventListener NONE = event -> {
+    };
+
+    void onEvent(GameEvent event);
+}
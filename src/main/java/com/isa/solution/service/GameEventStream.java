@@ -0,0 +1,85 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.GameEvent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+
+/**
+ * The events of a streamed batch, handed from the game threads to a single reader through a
+ * bounded buffer. When the buffer is full the games wait, so a slow reader slows the batch down
+ * instead of letting events pile up. Closing the stream cancels the batch and ends the events of
+ * a reader still waiting for one, so it may be closed from another thread.
+ */
+public final class GameEventStream implements AutoCloseable {
+
+    private static final GameEvent END = new GameEvent.StreamFailed(null);
+
+    private final BlockingQueue<GameEvent> buffer;
+    private volatile Future<?> producer;
+    private volatile boolean closed;
+    private volatile boolean ended;
+
+    GameEventStream(int bufferSize) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Waits for the next event; returns {@code null} once the batch is over.
+     */
+    public GameEvent next() throws InterruptedException {
+        if (ended) {
+            return null;
+        }
+        GameEvent event = buffer.take();
+        if (event == END) {
+            ended = true;
+            return null;
+        }
+        return event;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Future<?> running = producer;
+        if (running != null) {
+            running.cancel(true);
+        }
+        // A game already past the closed check may still put one event; clear it again.
+        do {
+            buffer.clear();
+        } while (!buffer.offer(END));
+    }
+
+    void attach(Future<?> producer) {
+        this.producer = producer;
+        if (closed) {
+            producer.cancel(true);
+        }
+    }
+
+    /**
+     * Listener of the game threads: blocks while the buffer is full. An interrupted game keeps its
+     * interrupt status and ends before its next turn.
+     */
+    void publish(GameEvent event) {
+        if (closed) {
+            return;
+        }
+        try {
+            buffer.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void finish() {
+        publish(END);
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+}
@@ -0,0 +1,169 @@
+package com.isa.solution.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs game loops either on a bounded pool of platform threads or, when
+ * {@code dragons.game.execution-mode=virtual}, on one virtual thread per game.
+ * Every game holds a permit of a process-wide semaphore while it runs, so the
+ * total number of simultaneous games never exceeds {@code dragons.game.max-concurrent-games}.
+ */
+@Component
+public class GameExecutionEngine implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GameExecutionEngine.class);
+
+    public enum Mode { PLATFORM, VIRTUAL }
+
+    static final int DEFAULT_MAX_PARALLELISM = 32;
+    static final int DEFAULT_MAX_CONCURRENT_GAMES = 10_000;
+
+    private final Mode mode;
+    private final int maxParallelism;
+    private final int maxConcurrentGames;
+    private final Semaphore concurrencyCap;
+    private final AtomicInteger platformThreadCounter = new AtomicInteger();
+    private final AtomicInteger ioThreadCounter = new AtomicInteger();
+    private final ExecutorService ioExecutor;
+
+    public GameExecutionEngine() {
+        this(Mode.PLATFORM, DEFAULT_MAX_PARALLELISM, DEFAULT_MAX_CONCURRENT_GAMES);
+    }
+
+    @Autowired
+    public GameExecutionEngine(
+            @Value("${dragons.game.execution-mode:platform}") Mode mode,
+            @Value("${dragons.game.max-parallelism:" + DEFAULT_MAX_PARALLELISM + "}") int maxParallelism,
+            @Value("${dragons.game.max-concurrent-games:" + DEFAULT_MAX_CONCURRENT_GAMES + "}") int maxConcurrentGames
+    ) {
+        this.mode = mode;
+        this.maxParallelism = maxParallelism;
+        this.maxConcurrentGames = maxConcurrentGames;
+        this.concurrencyCap = new Semaphore(maxConcurrentGames, true);
+        this.ioExecutor = mode == Mode.VIRTUAL
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-io-vt-", 0).factory())
+                : Executors.newCachedThreadPool(ioThreadFactory());
+        log.info("Game execution mode: {} (max parallelism {}, max concurrent games {})",
+                mode, maxParallelism, maxConcurrentGames);
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Stops the side calls still running; game loops run on per-batch executors and end with
+     * their batch.
+     */
+    @Override
+    public void destroy() {
+        ioExecutor.shutdownNow();
+    }
+
+    /**
+     * Number of games of a batch that may run at the same time. Platform threads are
+     * capped by the pool size, virtual threads only by the global concurrency cap.
+     */
+    public int effectiveParallelism(int requested, int tasks) {
+        int cap = mode == Mode.VIRTUAL ? maxConcurrentGames : maxParallelism;
+        return Math.max(1, Math.min(tasks, Math.min(requested, cap)));
+    }
+
+    /**
+     * Runs {@code task} {@code times} times, at most {@code parallelism} at once. A fixed set of
+     * workers pulls runs from a counter rather than holding one future per run, so memory does not
+     * grow with {@code times}. A run that
+     * throws is logged and handed to {@code onFailure}, on its own thread, and does not stop the
+     * others; interrupting the caller stops all workers before their next run.
+     */
+    public void repeat(int times, Runnable task, Consumer<? super RuntimeException> onFailure, int parallelism)
+            throws InterruptedException {
+        if (mode == Mode.PLATFORM && times == 1) {
+            runGated(task, onFailure);
+            return;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            while (!Thread.currentThread().isInterrupted() && next.getAndIncrement() < times) {
+                runGated(task, onFailure);
+            }
+            return null;
+        };
+        int workers = effectiveParallelism(parallelism, times);
+        ExecutorService executor = newExecutor(workers);
+        try {
+            for (Future<Void> future : executor.invokeAll(Collections.nCopies(workers, worker))) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Game worker failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a blocking side call of a game, such as a speculative prefetch, next to its game loop.
+     * Side calls use virtual threads in {@code virtual} mode and a cached daemon pool otherwise;
+     * they do not take a game permit.
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, ioExecutor);
+    }
+
+    private void runGated(Runnable task, Consumer<? super RuntimeException> onFailure) throws InterruptedException {
+        concurrencyCap.acquire();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("Game Error", e);
+            onFailure.accept(e);
+        } finally {
+            concurrencyCap.release();
+        }
+    }
+
+    private ExecutorService newExecutor(int workers) {
+        if (mode == Mode.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-vt-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(workers, platformThreadFactory());
+    }
+
+    private ThreadFactory platformThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-worker-" + platformThreadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private ThreadFactory ioThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-io-" + ioThreadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.GameJobStatus;
+
+import java.time.Instant;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A batch of games played in the background. Its results are only aggregated, so a status can
+ * be read while games are still being added.
+ */
+final class GameJob {
+
+    enum State { QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    private final String id;
+    private final int games;
+    private final int parallelism;
+    private final Instant submittedAt;
+    private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+    private final GameResultAggregator results = GameResultAggregator.summaryOnly();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    GameJob(String id, int games, int parallelism, Instant submittedAt) {
+        this.id = id;
+        this.games = games;
+        this.parallelism = parallelism;
+        this.submittedAt = submittedAt;
+    }
+
+    String id() {
+        return id;
+    }
+
+    int games() {
+        return games;
+    }
+
+    int parallelism() {
+        return parallelism;
+    }
+
+    State state() {
+        return state.get();
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    boolean start() {
+        if (state.compareAndSet(State.QUEUED, State.RUNNING)) {
+            startedAt = Instant.now();
+            return true;
+        }
+        return false;
+    }
+
+    GameResultAggregator results() {
+        return results;
+    }
+
+    void complete() {
+        finish(State.COMPLETED, null);
+    }
+
+    boolean fail(String reason) {
+        return finish(State.FAILED, reason);
+    }
+
+    /**
+     * Cancels a queued or running job; running games stop before their next turn.
+     */
+    boolean cancel() {
+        if (!finish(State.CANCELLED, null)) {
+            return false;
+        }
+        Future<?> running = future;
+        if (running != null) {
+            running.cancel(true);
+        }
+        return true;
+    }
+
+    boolean isFinished() {
+        State current = state.get();
+        return current != State.QUEUED && current != State.RUNNING;
+    }
+
+    GameJobStatus status() {
+        int done = results.games();
+        int wins = Math.min(results.successfulGames(), done);
+        return new GameJobStatus(
+                id,
+                state.get().name(),
+                games,
+                parallelism,
+                done,
+                wins,
+                done - wins,
+                done == 0 ? 0 : (double) results.scoreSum() / done,
+                results.highestScore(),
+                results.lowestScore(),
+                submittedAt,
+                startedAt,
+                finishedAt,
+                error
+        );
+    }
+
+    private boolean finish(State target, String reason) {
+        while (true) {
+            State current = state.get();
+            if (current != State.QUEUED && current != State.RUNNING) {
+                return false;
+            }
+            if (state.compareAndSet(current, target)) {
+                error = reason;
+                finishedAt = Instant.now();
+                return true;
+            }
+        }
+    }
+}
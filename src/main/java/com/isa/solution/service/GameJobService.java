@@ -0,0 +1,129 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.JobCapacityExceededException;
+import com.isa.solution.model.GameJobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays batches of games in the background so that a client does not hold an HTTP request open
+ * for the whole batch. At most {@code dragons.game.jobs.max-running} jobs run at once and
+ * {@code max-queued} more may wait; further submissions are rejected. Finished jobs stay
+ * queryable for {@code retention}.
+ */
+@Service
+public class GameJobService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GameJobService.class);
+
+    private final GamePlayService gamePlayService;
+    private final int maxQueued;
+    private final Duration retention;
+    private final ThreadPoolExecutor scheduler;
+    private final Map<String, GameJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    @Autowired
+    public GameJobService(
+            GamePlayService gamePlayService,
+            @Value("${dragons.game.jobs.max-running:4}") int maxRunning,
+            @Value("${dragons.game.jobs.max-queued:100}") int maxQueued,
+            @Value("${dragons.game.jobs.retention:1h}") Duration retention
+    ) {
+        this.gamePlayService = gamePlayService;
+        this.maxQueued = maxQueued;
+        this.retention = retention;
+        this.scheduler = new ThreadPoolExecutor(maxRunning, maxRunning, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueued)), runnable -> {
+                    Thread thread = new Thread(runnable, "game-job-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues a batch and returns at once.
+     *
+     * @throws com.isa.solution.exception.InvalidRequestException when the batch is invalid
+     * @throws JobCapacityExceededException                      when the queue is full
+     */
+    public GameJobStatus submit(int games, int parallelism) {
+        gamePlayService.validateBatch(games, parallelism);
+        evictExpired();
+
+        GameJob job = new GameJob(UUID.randomUUID().toString(), games, parallelism, Instant.now());
+        jobs.put(job.id(), job);
+        try {
+            Future<?> future = scheduler.submit(() -> run(job));
+            job.attach(future);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            throw new JobCapacityExceededException(maxQueued);
+        }
+        log.info("Queued job {}: {} game(s) with parallelism {}", job.id(), games, parallelism);
+        return job.status();
+    }
+
+    public Optional<GameJobStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(GameJob::status);
+    }
+
+    /**
+     * Cancels a queued or running job. Returns the job's status, or empty for an unknown id;
+     * cancelling a finished job leaves it unchanged.
+     */
+    public Optional<GameJobStatus> cancel(String jobId) {
+        GameJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.cancel()) {
+            scheduler.purge();
+            log.info("Cancelled job {} after {} game(s)", jobId, job.status().completedGames());
+        }
+        return Optional.of(job.status());
+    }
+
+    @Override
+    public void destroy() {
+        jobs.values().forEach(GameJob::cancel);
+        scheduler.shutdownNow();
+    }
+
+    private void run(GameJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            gamePlayService.playGames(job.games(), job.parallelism(), job.results());
+            job.complete();
+            log.info("Finished job {}", job.id());
+        } catch (RuntimeException e) {
+            if (job.fail(e.getMessage())) {
+                log.error("Job {} failed", job.id(), e);
+            }
+        }
+    }
+
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,27 @@
+package com.isa.solution.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses the games whose turns are logged. Every {@code traceOneIn}-th game is traced turn by
+ * turn; the others only log a summary line when they end. 1 traces every game, 0 none.
+ */
+final class GameLogSampler {
+
+    private final int traceOneIn;
+    private final AtomicLong games = new AtomicLong();
+
+    GameLogSampler(int traceOneIn) {
+        if (traceOneIn < 0) {
+            throw new IllegalArgumentException("traceOneIn must not be negative: " + traceOneIn);
+        }
+        this.traceOneIn = traceOneIn;
+    }
+
+    boolean traceNextGame() {
+        if (traceOneIn <= 1) {
+            return traceOneIn == 1;
+        }
+        return games.getAndIncrement() % traceOneIn == 0;
+    }
+}
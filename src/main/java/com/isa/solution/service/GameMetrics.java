@@ -0,0 +1,106 @@
+package com.isa.solution.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counters of the game loop, next to the {@code dragons.api.client.*} call timers:
+ * <ul>
+ *     <li>{@code dragons.game.games{result=won|lost|error}}</li>
+ *     <li>{@code dragons.game.turns} and the {@code dragons.game.turns.per.game} summary</li>
+ *     <li>{@code dragons.game.solves{result=success|failure|error}}: solved, failed and rejected missions</li>
+ *     <li>{@code dragons.game.potions}: healing potions bought</li>
+ *     <li>{@code dragons.game.fallbacks}: fallback missions forced after repeated skips</li>
+ *     <li>{@code dragons.game.skips.avoided}: skipped loop iterations saved because encrypted ads were decoded</li>
+ * </ul>
+ */
+@Component
+public class GameMetrics {
+
+    private final Counter won;
+    private final Counter lost;
+    private final Counter errored;
+    private final Counter turns;
+    private final DistributionSummary turnsPerGame;
+    private final Counter solved;
+    private final Counter failedSolves;
+    private final Counter solveErrors;
+    private final Counter potions;
+    private final Counter fallbacks;
+    private final Counter skipsAvoided;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.won = games(registry, "won");
+        this.lost = games(registry, "lost");
+        this.errored = games(registry, "error");
+        this.turns = Counter.builder("dragons.game.turns")
+                .description("Turns played across all games")
+                .register(registry);
+        this.turnsPerGame = DistributionSummary.builder("dragons.game.turns.per.game")
+                .description("Turns played by a finished game")
+                .register(registry);
+        this.solved = solves(registry, "success");
+        this.failedSolves = solves(registry, "failure");
+        this.solveErrors = solves(registry, "error");
+        this.potions = Counter.builder("dragons.game.potions")
+                .description("Healing potions bought")
+                .register(registry);
+        this.fallbacks = Counter.builder("dragons.game.fallbacks")
+                .description("Fallback missions forced after repeated skips")
+                .register(registry);
+        this.skipsAvoided = Counter.builder("dragons.game.skips.avoided")
+                .description("Skipped loop iterations saved because encrypted ads were decoded")
+                .register(registry);
+    }
+
+    /**
+     * Metrics that are not exported anywhere, for services built outside Spring.
+     */
+    public static GameMetrics disabled() {
+        return new GameMetrics(new CompositeMeterRegistry());
+    }
+
+    void gameFinished(boolean success, int turnsPlayed, int skipsAvoidedByDecoding) {
+        (success ? won : lost).increment();
+        skipsAvoided.increment(skipsAvoidedByDecoding);
+        turns.increment(turnsPlayed);
+        turnsPerGame.record(turnsPlayed);
+    }
+
+    void gameFailed() {
+        errored.increment();
+    }
+
+    void missionSolved(boolean success) {
+        (success ? solved : failedSolves).increment();
+    }
+
+    void solveFailed() {
+        solveErrors.increment();
+    }
+
+    void potionBought() {
+        potions.increment();
+    }
+
+    void fallbackForced() {
+        fallbacks.increment();
+    }
+
+    private static Counter games(MeterRegistry registry, String result) {
+        return Counter.builder("dragons.game.games")
+                .description("Finished games by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter solves(MeterRegistry registry, String result) {
+        return Counter.builder("dragons.game.solves")
+                .description("Solve attempts by result")
+                .tag("result", result)
+                .register(registry);
+    }
+}
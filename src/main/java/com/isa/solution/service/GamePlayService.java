@@ -1,15 +1,24 @@
 package com.isa.solution.service;
 
 import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.DragonsApiException;
+import com.isa.solution.exception.GamePlayException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.exception.RateLimitExceededException;
 import com.isa.solution.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 
 @Service
@@ -19,95 +28,369 @@ public class GamePlayService {
     private final DragonsApiClient apiClient;
     private final MissionSelectionService missionSelectionService;
     private final ShopService shopService;
+    private final GameExecutionEngine executionEngine;
+    private final GameMetrics metrics;
+    private final MissionDecoder missionDecoder;
+    private final GameLogSampler logSampler;
+    private final int maxGamesPerRequest;
 
     private static final int TARGET_SCORE = 1000;
     private static final int MAX_SKIPS_BEFORE_FORCE = 5;
+    private static final int MAX_IDLE_ITERATIONS = 25;
+    private static final int MAX_CANDIDATES = 8;
+    private static final long RATE_LIMIT_BACKOFF_MILLIS = 50;
+    private static final int DEFAULT_MAX_GAMES_PER_REQUEST = 1000;
 
     public GamePlayService(DragonsApiClient apiClient, MissionSelectionService missionSelectionService, ShopService shopService) {
+        this(apiClient, missionSelectionService, shopService, new GameExecutionEngine(), DEFAULT_MAX_GAMES_PER_REQUEST);
+    }
+
+    public GamePlayService(DragonsApiClient apiClient, MissionSelectionService missionSelectionService,
+                           ShopService shopService, GameExecutionEngine executionEngine, int maxGamesPerRequest) {
+        this(apiClient, missionSelectionService, shopService, executionEngine, GameMetrics.disabled(), maxGamesPerRequest, 1);
+    }
+
+    public GamePlayService(DragonsApiClient apiClient, MissionSelectionService missionSelectionService,
+                           ShopService shopService, GameExecutionEngine executionEngine, GameMetrics metrics,
+                           int maxGamesPerRequest, int traceOneIn) {
+        this(apiClient, missionSelectionService, shopService, executionEngine, metrics,
+                new MissionDecoder(MissionDecoder.DEFAULT_MAX_ENTRIES), maxGamesPerRequest, traceOneIn);
+    }
+
+    @Autowired
+    public GamePlayService(
+            DragonsApiClient apiClient,
+            MissionSelectionService missionSelectionService,
+            ShopService shopService,
+            GameExecutionEngine executionEngine,
+            GameMetrics metrics,
+            MissionDecoder missionDecoder,
+            @Value("${dragons.game.max-games-per-request:" + DEFAULT_MAX_GAMES_PER_REQUEST + "}") int maxGamesPerRequest,
+            @Value("${dragons.game.log.trace-one-in:1}") int traceOneIn
+    ) {
         this.apiClient = apiClient;
         this.missionSelectionService = missionSelectionService;
         this.shopService = shopService;
+        this.executionEngine = executionEngine;
+        this.metrics = metrics;
+        this.missionDecoder = missionDecoder;
+        this.maxGamesPerRequest = maxGamesPerRequest;
+        this.logSampler = new GameLogSampler(traceOneIn);
     }
 
     public GamePlayResponse playGame() {
-        log.info("Starting game...");
-        GameResult result = playSingleGame();
-        return buildGamePlayResponse(result);
+        return playGames(1, 1);
+    }
+
+    public GamePlayResponse playGames(int games, int parallelism) {
+        return playGames(games, parallelism, GameResultAggregator.keepingAll());
+    }
+
+    /**
+     * Plays a batch and folds every result into {@code results} as soon as its game ends, on the
+     * thread that played it; the response is built from the aggregator alone. Interrupting the
+     * calling thread cancels the batch: running games stop before their next turn.
+     */
+    public GamePlayResponse playGames(int games, int parallelism, GameResultAggregator results) {
+        validateBatch(games, parallelism);
+        log.info("Starting {} game(s) on {} threads with parallelism {}...",
+                games, executionEngine.mode(), executionEngine.effectiveParallelism(parallelism, games));
+
+        try {
+            executionEngine.repeat(games, () -> results.add(playSingleGame(GameEventListener.NONE)),
+                    e -> results.add(failedGame(e)), parallelism);
+            return results.toResponse();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GamePlayException("Interrupted while playing " + games + " games", e);
+        }
+    }
+
+    /**
+     * Plays a batch without collecting its results: every game ends with a
+     * {@link GameEvent.GameFinished} event and, with {@code turnEvents}, also reports the missions
+     * it picks and solves and the potions it buys. Events are delivered on the game threads, so a
+     * listener that blocks slows the batch down to the pace of its consumer. Interrupting the
+     * calling thread cancels the batch.
+     */
+    public void streamGames(int games, int parallelism, boolean turnEvents, GameEventListener listener) {
+        validateBatch(games, parallelism);
+        log.info("Streaming {} game(s) on {} threads with parallelism {}...",
+                games, executionEngine.mode(), executionEngine.effectiveParallelism(parallelism, games));
+
+        GameEventListener turnListener = turnEvents ? listener : GameEventListener.NONE;
+        try {
+            executionEngine.repeat(games,
+                    () -> listener.onEvent(new GameEvent.GameFinished(playSingleGame(turnListener))),
+                    e -> listener.onEvent(new GameEvent.GameFinished(failedGame(e))), parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GamePlayException("Interrupted while streaming " + games + " games", e);
+        }
+    }
+
+    /**
+     * Aggregator for a requested batch. A sample never needs more entries than a batch has games,
+     * so its size is capped like the batch itself.
+     *
+     * @throws InvalidRequestException when a sample size is out of range
+     */
+    public GameResultAggregator aggregator(ResultRetention retention, int sampleSize) {
+        return GameResultAggregator.of(retention, sampleSize, maxGamesPerRequest);
     }
 
-    private GameResult playSingleGame() {
+    public void validateBatch(int games, int parallelism) {
+        if (games < 1 || games > maxGamesPerRequest) {
+            throw new InvalidRequestException("games", games, "must be between 1 and " + maxGamesPerRequest);
+        }
+        if (parallelism < 1) {
+            throw new InvalidRequestException("parallelism", parallelism, "must be at least 1");
+        }
+    }
+
+    private GameResult playSingleGame(GameEventListener events) {
         Game game;
+        String gameId = null;
         try {
             game = apiClient.startGame();
-            String gameId = game.gameId();
+            gameId = game.gameId();
+            boolean traced = logSampler.traceNextGame();
 
-            Set<String> attemptedInThisTurn = new HashSet<>();
+            MissionBoardCache boardCache = new MissionBoardCache(gameId, apiClient, missionDecoder);
+            MissionCandidates candidates = null;
             int consecutiveSkips = 0;
+            int idleIterations = 0;
+            int prefetchedTurns = 0;
+            long savedLatencyNanos = 0;
+            int skipsAvoided = 0;
 
             while (game.lives() > 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("[{}] Cancelled at turn {}", gameId, game.turn());
+                    metrics.gameFinished(false, game.turn(), skipsAvoided);
+                    return new GameResult(gameId, game.score(), game.turn(), false, "Cancelled", prefetchedTurns,
+                            TimeUnit.NANOSECONDS.toMillis(savedLatencyNanos), skipsAvoided);
+                }
                 if (game.score() >= TARGET_SCORE) {
-                    log.info("[{}] Target reached. Score: {}", gameId, game.score());
+                    if (traced) {
+                        log.info("[{}] Target reached. Score: {}", gameId, game.score());
+                    }
                     break;
                 }
-
-                if (game.lives() < 3 && game.gold() >= 50) {
-                    Game bought = tryBuyPotion(game);
-                    if (bought.lives() > game.lives()) {
-                        game = bought;
-                        consecutiveSkips = 0;
-                    }
+                if (idleIterations >= MAX_IDLE_ITERATIONS) {
+                    log.warn("[{}] No turn played in {} iterations. Giving up.", gameId, idleIterations);
+                    metrics.gameFinished(false, game.turn(), skipsAvoided);
+                    return new GameResult(gameId, game.score(), game.turn(), false,
+                            "No playable missions after " + idleIterations + " attempts", prefetchedTurns,
+                            TimeUnit.NANOSECONDS.toMillis(savedLatencyNanos), skipsAvoided);
                 }
+                idleIterations++;
 
-                List<Message> missions = apiClient.getAllMissions(gameId);
-                missions.removeIf(m -> attemptedInThisTurn.contains(m.adId()));
+                MissionBoard missions;
+                try {
+                    if (game.lives() < 3 && game.gold() >= 50 && shopService.needsHealingPotion(game.gold(), game.lives())) {
+                        List<ShopItem> shopItems;
+                        if (boardCache.isCurrent() || shopService.hasCachedShopItems(gameId)) {
+                            missions = boardCache.board();
+                            shopItems = shopItems(gameId);
+                        } else {
+                            TurnPrefetch prefetch = prefetchShopAndMissions(gameId);
+                            prefetchedTurns++;
+                            savedLatencyNanos += prefetch.savedNanos();
+                            missions = boardCache.board(prefetch::missions);
+                            shopItems = prefetch.shopItems();
+                        }
 
-                Optional<Message> selectedMission = missionSelectionService.selectBestMission(
-                        missions, game.lives()
-                );
+                        Game bought = tryBuyPotion(game, shopItems);
+                        if (bought.lives() > game.lives()) {
+                            metrics.potionBought();
+                            events.onEvent(new GameEvent.PotionBought(gameId, bought.turn(), bought.lives(), bought.gold()));
+                            boardCache.advance(bought.turn() - game.turn());
+                            missions = boardCache.board();
+                            game = bought;
+                            consecutiveSkips = 0;
+                            idleIterations = 0;
+                        }
+                    } else {
+                        missions = boardCache.board();
+                    }
 
-                if (selectedMission.isEmpty()) {
+                    if (candidates == null || !candidates.isFor(missions, game.lives()) || !candidates.hasNext()) {
+                        if (boardCache.isOutdated()) {
+                            boardCache.invalidate();
+                            missions = boardCache.board();
+                        }
+                        candidates = missionSelectionService.rankMissions(missions, game.lives(), MAX_CANDIDATES);
+                        if (candidates.onlyEncrypted()) {
+                            // Without decoding, the loop would skip until it forces a fallback.
+                            skipsAvoided += Math.max(0, MAX_SKIPS_BEFORE_FORCE - 1 - consecutiveSkips);
+                        }
+                    }
+                } catch (RateLimitExceededException e) {
+                    idleIterations = Math.max(0, idleIterations - 1);
+                    if (traced) {
+                        log.warn("[{}] Mission board rate limited, waiting: {}", gameId, e.getMessage());
+                    }
+                    awaitRateLimit(e);
+                    continue;
+                }
+                int selected = candidates.next();
+
+                if (selected < 0) {
                     consecutiveSkips++;
-                    log.debug("[{}] No safe missions (Attempt {}/{})", gameId, consecutiveSkips, MAX_SKIPS_BEFORE_FORCE);
+                    if (traced) {
+                        log.debug("[{}] No safe missions (Attempt {}/{})", gameId, consecutiveSkips, MAX_SKIPS_BEFORE_FORCE);
+                    }
 
                     if (consecutiveSkips >= MAX_SKIPS_BEFORE_FORCE) {
-                        log.warn("[{}] STUCK IN LOOP. Forcing fallback mission.", gameId);
-                        selectedMission = missionSelectionService.selectFallbackMission(missions);
+                        if (traced) {
+                            log.warn("[{}] STUCK IN LOOP. Forcing fallback mission.", gameId);
+                        }
+                        selected = missionSelectionService.fallbackMissionIndex(missions);
+                        if (selected >= 0) {
+                            metrics.fallbackForced();
+                        }
                     }
                 }
 
-                if (selectedMission.isEmpty()) {
-                    attemptedInThisTurn.clear();
+                if (selected < 0) {
+                    missions.clearAttempted();
                     continue;
                 }
 
-                Message mission = selectedMission.get();
-                attemptedInThisTurn.add(mission.adId());
+                Message mission = missions.message(selected);
+                missions.markAttempted(selected);
 
                 consecutiveSkips = 0;
 
                 try {
-                    log.info("[{}] Solving: {} ({}) - Reward: {}", gameId, mission.probability(), mission.adId(), mission.reward());
+                    if (traced) {
+                        log.info("[{}] Solving: {} ({}) - Reward: {}", gameId, mission.probability(), mission.adId(), mission.reward());
+                    }
+                    events.onEvent(new GameEvent.MissionChosen(gameId, game.turn(), mission.adId(),
+                            mission.probability(), mission.reward()));
                     SolveResponse resp = apiClient.solveMission(gameId, mission.adId());
+                    metrics.missionSolved(resp.success());
+                    missionSelectionService.recordOutcome(mission, resp.success());
+                    events.onEvent(new GameEvent.MissionSolved(gameId, resp.turn(), mission.adId(), resp.success(),
+                            resp.score(), resp.lives(), resp.gold()));
 
                     game = new Game(gameId, resp.lives(), resp.gold(), game.level(), resp.score(), resp.turn(), resp.highScore());
-                    attemptedInThisTurn.clear();
+                    boardCache.turnPlayed();
+                    idleIterations = 0;
 
+                } catch (RateLimitExceededException e) {
+                    missions.unmarkAttempted(selected);
+                    idleIterations = Math.max(0, idleIterations - 1);
+                    if (traced) {
+                        log.warn("[{}] Solve rate limited, retrying {}: {}", gameId, mission.adId(), e.getMessage());
+                    }
+                    awaitRateLimit(e);
+                } catch (MissionNotFoundException e) {
+                    metrics.solveFailed();
+                    if (traced) {
+                        log.warn("[{}] Mission gone, trying next candidate: {}", gameId, e.getMessage());
+                    }
+                    boardCache.missionGone();
+                } catch (ApiConnectionException | ApiResponseException e) {
+                    metrics.solveFailed();
+                    if (traced) {
+                        log.warn("[{}] Solve failed, refreshing mission board: {}", gameId, e.getMessage());
+                    }
+                    boardCache.invalidate();
                 } catch (Exception e) {
-                    log.warn("[{}] Solve failed: {}", gameId, e.getMessage());
+                    metrics.solveFailed();
+                    if (traced) {
+                        log.warn("[{}] Solve failed: {}", gameId, e.getMessage());
+                    }
                 }
             }
 
-            return new GameResult(gameId, game.score(), game.turn(), game.score() >= TARGET_SCORE, null);
+            log.info("[{}] Game over. Score: {}, turns: {}, lives: {}, board fetched {} times, reused {} times, "
+                            + "{} skips avoided by decoding",
+                    gameId, game.score(), game.turn(), game.lives(), boardCache.fetches(), boardCache.reuses(),
+                    skipsAvoided);
+            metrics.gameFinished(game.score() >= TARGET_SCORE, game.turn(), skipsAvoided);
+            return new GameResult(gameId, game.score(), game.turn(), game.score() >= TARGET_SCORE, null,
+                    prefetchedTurns, TimeUnit.NANOSECONDS.toMillis(savedLatencyNanos), skipsAvoided);
 
         } catch (Exception e) {
             log.error("Game Error", e);
-            return new GameResult("error", 0, 0, false, e.getMessage());
+            return failedGame(e);
+        } finally {
+            if (gameId != null) {
+                shopService.endGame(gameId);
+            }
         }
     }
 
-    private Game tryBuyPotion(Game game) {
+    private GameResult failedGame(Exception e) {
+        metrics.gameFailed();
+        return new GameResult("error", 0, 0, false, e.getMessage());
+    }
+
+    /**
+     * Fetches the shop on a side thread while the mission board is fetched on the game thread,
+     * so a turn that may buy a potion pays one round trip instead of two. Only used while
+     * neither the shop catalogue nor the mission board is cached. A failed shop fetch only
+     * skips the purchase; a failed mission fetch fails the turn as before.
+     */
+    private TurnPrefetch prefetchShopAndMissions(String gameId) {
+        long start = System.nanoTime();
+        CompletableFuture<TimedShop> shop = executionEngine.fork(() -> {
+            long shopStart = System.nanoTime();
+            List<ShopItem> items = shopService.shopItems(gameId);
+            return new TimedShop(items, System.nanoTime() - shopStart);
+        });
+
+        List<Message> missions = apiClient.getAllMissions(gameId);
+        long missionsNanos = System.nanoTime() - start;
+
+        TimedShop shopItems = shop.exceptionally(e -> {
+            log.warn("[{}] Shop prefetch failed: {}", gameId, e.getMessage());
+            return new TimedShop(List.of(), 0);
+        }).join();
+        long elapsed = System.nanoTime() - start;
+
+        long saved = shopItems.nanos() == 0 ? 0 : Math.max(0, missionsNanos + shopItems.nanos() - elapsed);
+        return new TurnPrefetch(missions, shopItems.items(), saved);
+    }
+
+    /**
+     * The shop catalogue, or no items when it cannot be fetched, so the purchase is skipped as on
+     * the prefetch path. A rate-limited fetch is waited out by the caller.
+     */
+    private List<ShopItem> shopItems(String gameId) {
+        try {
+            return shopService.shopItems(gameId);
+        } catch (RateLimitExceededException e) {
+            throw e;
+        } catch (DragonsApiException e) {
+            log.warn("[{}] Shop fetch failed: {}", gameId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Waits before a rate-limited call is tried again: for its retry-after when known, else for a
+     * short backoff, after which the limiter itself waits out any pause it still holds. A rate
+     * limit is not the game's fault, so the wait counts neither as a failed solve nor as an idle
+     * iteration. An interrupt ends the wait and is left set for the game loop to see.
+     */
+    private static void awaitRateLimit(RateLimitExceededException e) {
+        long millis = e.getRetryAfterSeconds() != null
+                ? TimeUnit.SECONDS.toMillis(e.getRetryAfterSeconds())
+                : RATE_LIMIT_BACKOFF_MILLIS;
         try {
-            Optional<PurchaseResponse> p = shopService.buyHealingPotionIfNeeded(game.gameId(), game.gold(), game.lives());
+            Thread.sleep(millis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Game tryBuyPotion(Game game, List<ShopItem> shopItems) {
+        try {
+            Optional<PurchaseResponse> p = shopService.buyHealingPotion(game.gameId(), game.gold(), shopItems);
             if (p.isPresent()) {
                 return new Game(game.gameId(), p.get().lives(), p.get().gold(), p.get().level(), game.score(), p.get().turn(), game.highScore());
             }
@@ -116,9 +399,9 @@ public class GamePlayService {
         return game;
     }
 
-    private GamePlayResponse buildGamePlayResponse(GameResult result) {
-        boolean success = result.success();
-        int score = result.finalScore();
-        return new GamePlayResponse(1, success ? 1 : 0, success ? 0 : 1, score, score, score, List.of(result));
+    private record TimedShop(List<ShopItem> items, long nanos) {
+    }
+
+    private record TurnPrefetch(List<Message> missions, List<ShopItem> shopItems, long savedNanos) {
     }
 }
@@ -0,0 +1,175 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.model.Distribution;
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.model.GameResult;
+import com.isa.solution.model.ResultRetention;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summary of a batch that is folded in as each game ends, from whichever thread played it, so a
+ * batch does not have to hold on to its results to report on them. Counters are striped
+ * per thread ({@link LongAdder}, {@link LongAccumulator}) and only summed when read; scores and
+ * turns go into wait-free HdrHistograms. Memory is constant unless every result is retained.
+ */
+public final class GameResultAggregator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ResultRetention retention;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder successful = new LongAdder();
+    private final LongAdder scoreSum = new LongAdder();
+    private final LongAccumulator highestScore = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final LongAccumulator lowestScore = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final Histogram scores = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram turns = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Queue<GameResult> allResults;
+    private final AtomicReferenceArray<GameResult> sample;
+    private final AtomicLong offered = new AtomicLong();
+
+    private GameResultAggregator(ResultRetention retention, int sampleSize) {
+        this.retention = retention;
+        this.allResults = retention == ResultRetention.ALL ? new ConcurrentLinkedQueue<>() : null;
+        this.sample = retention == ResultRetention.SAMPLE ? new AtomicReferenceArray<>(sampleSize) : null;
+    }
+
+    /**
+     * @param maxSampleSize largest sample a client may ask for; the sample is allocated up front
+     * @throws InvalidRequestException when a sample is requested with a size outside 1..maxSampleSize
+     */
+    public static GameResultAggregator of(ResultRetention retention, int sampleSize, int maxSampleSize) {
+        if (retention == ResultRetention.SAMPLE && (sampleSize < 1 || sampleSize > maxSampleSize)) {
+            throw new InvalidRequestException("sampleSize", sampleSize, "must be between 1 and " + maxSampleSize);
+        }
+        return new GameResultAggregator(retention, sampleSize);
+    }
+
+    public static GameResultAggregator keepingAll() {
+        return new GameResultAggregator(ResultRetention.ALL, 0);
+    }
+
+    public static GameResultAggregator summaryOnly() {
+        return new GameResultAggregator(ResultRetention.NONE, 0);
+    }
+
+    public void add(GameResult result) {
+        if (result.success()) {
+            successful.increment();
+        }
+        scoreSum.add(result.finalScore());
+        highestScore.accumulate(result.finalScore());
+        lowestScore.accumulate(result.finalScore());
+        scores.recordValue(Math.max(0, result.finalScore()));
+        turns.recordValue(Math.max(0, result.turnsPlayed()));
+        retain(result);
+        games.increment();
+    }
+
+    public int games() {
+        return games.intValue();
+    }
+
+    public int successfulGames() {
+        return successful.intValue();
+    }
+
+    public long scoreSum() {
+        return scoreSum.sum();
+    }
+
+    public int highestScore() {
+        long highest = highestScore.get();
+        return highest == Long.MIN_VALUE ? 0 : (int) highest;
+    }
+
+    public int lowestScore() {
+        long lowest = lowestScore.get();
+        return lowest == Long.MAX_VALUE ? 0 : (int) lowest;
+    }
+
+    /**
+     * The response of a finished batch. While games are still being added the figures may
+     * disagree with each other by the games in flight.
+     */
+    public GamePlayResponse toResponse() {
+        int total = games();
+        int wins = Math.min(successfulGames(), total);
+        return new GamePlayResponse(
+                total,
+                wins,
+                total - wins,
+                total == 0 ? 0 : (double) scoreSum() / total,
+                highestScore(),
+                lowestScore(),
+                retainedResults(),
+                distribution(scores),
+                distribution(turns)
+        );
+    }
+
+    /**
+     * Keeps the result when every result is retained, or with reservoir sampling (algorithm R)
+     * so that each game ends up in the sample with the same probability.
+     */
+    private void retain(GameResult result) {
+        if (retention == ResultRetention.ALL) {
+            allResults.add(result);
+        } else if (retention == ResultRetention.SAMPLE) {
+            long seen = offered.getAndIncrement();
+            if (seen < sample.length()) {
+                sample.set((int) seen, result);
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                if (slot < sample.length()) {
+                    sample.set((int) slot, result);
+                }
+            }
+        }
+    }
+
+    private List<GameResult> retainedResults() {
+        if (retention == ResultRetention.ALL) {
+            return List.copyOf(allResults);
+        }
+        if (retention == ResultRetention.NONE) {
+            return List.of();
+        }
+        List<GameResult> results = new ArrayList<>(sample.length());
+        for (int i = 0; i < sample.length(); i++) {
+            GameResult result = sample.get(i);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return List.copyOf(results);
+    }
+
+    private static Distribution distribution(Histogram histogram) {
+        Histogram snapshot = histogram.copy();
+        if (snapshot.getTotalCount() == 0) {
+            return new Distribution(0, 0, 0, 0, 0, 0, 0);
+        }
+        return new Distribution(
+                snapshot.getTotalCount(),
+                snapshot.getMinValue(),
+                snapshot.getMaxValue(),
+                snapshot.getMean(),
+                snapshot.getValueAtPercentile(50),
+                snapshot.getValueAtPercentile(90),
+                snapshot.getValueAtPercentile(99)
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.StreamCapacityExceededException;
+import com.isa.solution.model.GameEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays batches whose events are read as they happen instead of being collected into a
+ * {@link com.isa.solution.model.GamePlayResponse}. Each open stream drives its batch from its
+ * own thread; at most {@code dragons.game.stream.max-streams} are open at once.
+ */
+@Service
+public class GameStreamService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStreamService.class);
+
+    private final GamePlayService gamePlayService;
+    private final int maxStreams;
+    private final int bufferSize;
+    private final ThreadPoolExecutor producers;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    @Autowired
+    public GameStreamService(
+            GamePlayService gamePlayService,
+            @Value("${dragons.game.stream.max-streams:8}") int maxStreams,
+            @Value("${dragons.game.stream.buffer-size:256}") int bufferSize
+    ) {
+        this.gamePlayService = gamePlayService;
+        this.maxStreams = maxStreams;
+        this.bufferSize = bufferSize;
+        this.producers = new ThreadPoolExecutor(0, maxStreams, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-stream-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Starts a batch and returns its events. The caller must close the stream.
+     *
+     * @throws com.isa.solution.exception.InvalidRequestException when the batch is invalid
+     * @throws StreamCapacityExceededException                   when too many streams are open
+     */
+    public GameEventStream open(int games, int parallelism, boolean turnEvents) {
+        gamePlayService.validateBatch(games, parallelism);
+
+        GameEventStream stream = new GameEventStream(bufferSize);
+        try {
+            stream.attach(producers.submit(() -> play(stream, games, parallelism, turnEvents)));
+        } catch (RejectedExecutionException e) {
+            throw new StreamCapacityExceededException(maxStreams);
+        }
+        return stream;
+    }
+
+    @Override
+    public void destroy() {
+        producers.shutdownNow();
+    }
+
+    private void play(GameEventStream stream, int games, int parallelism, boolean turnEvents) {
+        try {
+            gamePlayService.streamGames(games, parallelism, turnEvents, stream::publish);
+        } catch (RuntimeException e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                log.error("Game stream failed", e);
+                stream.publish(new GameEvent.StreamFailed(e.getMessage()));
+            }
+        } finally {
+            stream.finish();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.Message;
+import com.isa.solution.model.Probability;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A mission board laid out as parallel primitive arrays, so that selecting a mission is one
+ * scan over {@code int} and {@code byte} arrays that allocates nothing. The ads tried in the
+ * current turn are marked in a bit set instead of being removed. Built once per fetched board;
+ * not thread-safe: owned by the thread playing the game.
+ */
+public final class MissionBoard {
+
+    private static final Probability[] LEVELS = Probability.values();
+
+    private final Message[] messages;
+    private final int[] rewards;
+    private final byte[] levels;
+    private final int[] expiresIn;
+    private final BitSet attempted;
+    private final BitSet encrypted;
+
+    private MissionBoard(Message[] messages) {
+        int size = messages.length;
+        this.messages = messages;
+        this.rewards = new int[size];
+        this.levels = new byte[size];
+        this.expiresIn = new int[size];
+        this.attempted = new BitSet(size);
+        this.encrypted = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            rewards[i] = messages[i].reward();
+            levels[i] = (byte) messages[i].level().ordinal();
+            expiresIn[i] = messages[i].expiresIn();
+            encrypted.set(i, MissionDecoder.isEncrypted(messages[i]));
+        }
+    }
+
+    public static MissionBoard of(List<Message> missions) {
+        return new MissionBoard(missions.toArray(new Message[0]));
+    }
+
+    public int size() {
+        return messages.length;
+    }
+
+    public Message message(int index) {
+        return messages[index];
+    }
+
+    public int reward(int index) {
+        return rewards[index];
+    }
+
+    public Probability level(int index) {
+        return LEVELS[levels[index]];
+    }
+
+    /**
+     * Ordinal of the ad's {@link Probability}: lower is safer.
+     */
+    public int levelCode(int index) {
+        return levels[index];
+    }
+
+    public int expiresIn(int index) {
+        return expiresIn[index];
+    }
+
+    /**
+     * Whether the ad arrived encrypted; it may since have been decoded.
+     */
+    public boolean isEncrypted(int index) {
+        return encrypted.get(index);
+    }
+
+    public boolean isAttempted(int index) {
+        return attempted.get(index);
+    }
+
+    public void markAttempted(int index) {
+        attempted.set(index);
+    }
+
+    public void unmarkAttempted(int index) {
+        attempted.clear(index);
+    }
+
+    public void clearAttempted() {
+        attempted.clear();
+    }
+
+    /**
+     * Marks the ads of this board that were tried on {@code previous}, e.g. when the board is
+     * fetched again within the same turn.
+     */
+    void copyAttemptsFrom(MissionBoard previous) {
+        for (int i = previous.attempted.nextSetBit(0); i >= 0; i = previous.attempted.nextSetBit(i + 1)) {
+            String adId = previous.messages[i].adId();
+            for (int j = 0; j < messages.length; j++) {
+                if (adId.equals(messages[j].adId())) {
+                    attempted.set(j);
+                }
+            }
+        }
+    }
+
+    /**
+     * The board {@code turns} turns later, without the ads that expired meanwhile. Attempts are
+     * kept.
+     */
+    MissionBoard aged(int turns) {
+        if (turns <= 0) {
+            return this;
+        }
+        int remaining = 0;
+        for (int expiry : expiresIn) {
+            if (expiry > turns) {
+                remaining++;
+            }
+        }
+        Message[] aged = new Message[remaining];
+        int next = 0;
+        for (Message m : messages) {
+            if (m.expiresIn() > turns) {
+                aged[next++] = new Message(m.adId(), m.message(), m.probability(), m.expiresIn() - turns, m.reward(),
+                        m.encrypted(), m.level());
+            }
+        }
+        MissionBoard board = new MissionBoard(aged);
+        board.copyAttemptsFrom(this);
+        return board;
+    }
+}
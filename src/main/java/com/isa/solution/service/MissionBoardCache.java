@@ -0,0 +1,121 @@
+package com.isa.solution.service;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.model.Message;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Mission board of one running game. The board only changes when a turn passes, so it is
+ * fetched again only after a solve; iterations that consume no turn (a failed solve, nothing
+ * worth playing) reuse it, together with the ads already tried on it. Turns used up by a
+ * purchase are applied locally by decrementing {@code expiresIn}. Encrypted ads are decoded by
+ * the {@link MissionDecoder} as each board arrives. Not thread-safe: owned by the
+ * thread playing the game.
+ */
+final class MissionBoardCache {
+
+    private final String gameId;
+    private final DragonsApiClient apiClient;
+    private final MissionDecoder decoder;
+
+    private MissionBoard board;
+    private MissionBoard stale;
+    private boolean outdated;
+    private int fetches;
+    private int reuses;
+
+    MissionBoardCache(String gameId, DragonsApiClient apiClient, MissionDecoder decoder) {
+        this.gameId = gameId;
+        this.apiClient = apiClient;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Current board. Attempts marked on it stay until a turn is played.
+     */
+    MissionBoard board() {
+        if (board == null) {
+            fetched(apiClient.getAllMissions(gameId));
+        } else {
+            reuses++;
+        }
+        return board;
+    }
+
+    /**
+     * Fetches the board through {@code fetch} (e.g. concurrently with the shop) unless it is
+     * still current.
+     */
+    MissionBoard board(Supplier<List<Message>> fetch) {
+        if (board == null) {
+            fetched(fetch.get());
+            return board;
+        }
+        return board();
+    }
+
+    boolean isCurrent() {
+        return board != null;
+    }
+
+    /**
+     * A solve consumed a turn: rewards, expiries and new ads are only known to the server.
+     */
+    void turnPlayed() {
+        board = null;
+        stale = null;
+        outdated = false;
+    }
+
+    /**
+     * Turns consumed without changing the ads themselves, e.g. by a purchase.
+     */
+    void advance(int turns) {
+        if (board != null) {
+            board = board.aged(turns);
+        }
+    }
+
+    /**
+     * The board no longer matches the server, e.g. an ad was already gone or the outcome of
+     * a call is unknown. The ads tried on it stay tried on the next board of the same turn.
+     */
+    void invalidate() {
+        if (board != null) {
+            stale = board;
+        }
+        board = null;
+        outdated = false;
+    }
+
+    /**
+     * An ad of the board was already gone. The other ads are still worth trying, so the board
+     * is kept until the caller has run out of them and {@link #invalidate()}s it.
+     */
+    void missionGone() {
+        outdated = board != null;
+    }
+
+    boolean isOutdated() {
+        return outdated;
+    }
+
+    int fetches() {
+        return fetches;
+    }
+
+    int reuses() {
+        return reuses;
+    }
+
+    private void fetched(List<Message> missions) {
+        fetches++;
+        board = MissionBoard.of(decoder.decode(missions));
+        if (stale != null) {
+            board.copyAttemptsFrom(stale);
+            stale = null;
+        }
+    }
+}
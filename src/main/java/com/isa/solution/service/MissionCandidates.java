@@ -0,0 +1,57 @@
+package com.isa.solution.service;
+
+/**
+ * Ads of one {@link MissionBoard} ranked from the highest expected reward down, for the lives
+ * the game had when they were ranked. When a solve fails the game moves on to the next
+ * candidate instead of selecting, or fetching the board, again. Candidates marked as attempted
+ * on the board are skipped, so a candidate unmarked after a rate-limited solve is offered again.
+ * Not thread-safe: owned by the thread playing the game.
+ */
+public final class MissionCandidates {
+
+    private final MissionBoard board;
+    private final int lives;
+    private final int[] ranked;
+    private final boolean onlyEncrypted;
+    private int cursor;
+
+    MissionCandidates(MissionBoard board, int lives, int[] ranked, boolean onlyEncrypted) {
+        this.board = board;
+        this.lives = lives;
+        this.ranked = ranked;
+        this.onlyEncrypted = onlyEncrypted;
+    }
+
+    /**
+     * Whether these candidates were ranked on {@code board} for {@code lives}.
+     */
+    public boolean isFor(MissionBoard board, int lives) {
+        return this.board == board && this.lives == lives;
+    }
+
+    /**
+     * Board index of the best candidate not attempted yet, or -1 when all were attempted.
+     */
+    public int next() {
+        while (cursor < ranked.length && board.isAttempted(ranked[cursor])) {
+            cursor++;
+        }
+        return cursor < ranked.length ? ranked[cursor] : -1;
+    }
+
+    public boolean hasNext() {
+        return next() >= 0;
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    /**
+     * Whether every ad worth playing arrived encrypted, i.e. the turn could only be played
+     * because those ads were decoded.
+     */
+    public boolean onlyEncrypted() {
+        return onlyEncrypted;
+    }
+}
@@ -0,0 +1,173 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.Message;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decodes encrypted ads before a board is used for selection. The {@code encrypted} field of an
+ * ad names the encoding of its {@code adId}, {@code message} and {@code probability}: 1 is
+ * Base64, 2 is ROT13. Decoded ads keep their {@code encrypted} value, so they can still be told
+ * apart from ads that arrived in plain text. Ads with an unknown encoding, or a payload that does
+ * not decode, are left as they are; their label stays unknown and selection never picks them.
+ * <p>
+ * The same payloads recur on every board of a game and across games, so decoded values are
+ * memoised in a cache shared by all games. It keeps the {@code dragons.game.decoder.max-entries}
+ * most recently used values; decoding itself runs outside its lock.
+ * Lookups are exported as {@code dragons.missions.decoder.requests{result=hit|miss}}.
+ */
+@Component
+public class MissionDecoder implements MeterBinder {
+
+    public static final int BASE64 = 1;
+    public static final int ROT13 = 2;
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final int maxEntries;
+    private final Map<Encoded, String> decoded;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder undecodable = new LongAdder();
+
+    public MissionDecoder(@Value("${dragons.game.decoder.max-entries:" + DEFAULT_MAX_ENTRIES + "}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.decoded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Encoded, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The board with every encrypted ad decoded; a board without encrypted ads is returned as is.
+     */
+    public List<Message> decode(List<Message> missions) {
+        List<Message> result = null;
+        for (int i = 0; i < missions.size(); i++) {
+            Message mission = missions.get(i);
+            if (!isEncrypted(mission)) {
+                if (result != null) {
+                    result.add(mission);
+                }
+                continue;
+            }
+            if (result == null) {
+                result = new ArrayList<>(missions.size());
+                result.addAll(missions.subList(0, i));
+            }
+            result.add(decode(mission));
+        }
+        return result != null ? result : missions;
+    }
+
+    public Message decode(Message mission) {
+        if (!isEncrypted(mission)) {
+            return mission;
+        }
+        int encoding = mission.encrypted();
+        String adId = decode(encoding, mission.adId());
+        String message = decode(encoding, mission.message());
+        String probability = decode(encoding, mission.probability());
+        if (adId == null || message == null || probability == null) {
+            undecodable.increment();
+            return mission;
+        }
+        return new Message(adId, message, probability, mission.expiresIn(), mission.reward(), encoding);
+    }
+
+    public static boolean isEncrypted(Message mission) {
+        return mission.encrypted() != null && mission.encrypted() != 0;
+    }
+
+    public int size() {
+        synchronized (decoded) {
+            return decoded.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dragons.missions.decoder.requests", hits, LongAdder::sum)
+                .description("Encrypted field lookups by cache result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dragons.missions.decoder.requests", misses, LongAdder::sum)
+                .description("Encrypted field lookups by cache result")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("dragons.missions.decoder.undecodable", undecodable, LongAdder::sum)
+                .description("Encrypted ads left as they are: unknown encoding or malformed payload")
+                .register(registry);
+        Gauge.builder("dragons.missions.decoder.size", this, MissionDecoder::size)
+                .description("Decoded values cached")
+                .register(registry);
+    }
+
+    /**
+     * Decoded {@code value}, or null when it cannot be decoded. Two games missing the same value
+     * at once both decode it; the second put replaces an equal string.
+     */
+    private String decode(int encoding, String value) {
+        if (value == null) {
+            return null;
+        }
+        Encoded key = new Encoded(encoding, value);
+        String cached;
+        synchronized (decoded) {
+            cached = decoded.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String plain = switch (encoding) {
+            case BASE64 -> base64(value);
+            case ROT13 -> rot13(value);
+            default -> null;
+        };
+        if (plain != null && maxEntries > 0) {
+            synchronized (decoded) {
+                decoded.put(key, plain);
+            }
+        }
+        return plain;
+    }
+
+    private static String base64(String value) {
+        try {
+            return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String rot13(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= 'a' && c <= 'z') {
+                chars[i] = (char) ('a' + (c - 'a' + 13) % 26);
+            } else if (c >= 'A' && c <= 'Z') {
+                chars[i] = (char) ('A' + (c - 'A' + 13) % 26);
+            }
+        }
+        return new String(chars);
+    }
+
+    private record Encoded(int encoding, String value) {
+    }
+}
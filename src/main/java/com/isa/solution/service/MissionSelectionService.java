@@ -1,78 +1,204 @@
 package com.isa.solution.service;
 
 import com.isa.solution.model.Message;
+import com.isa.solution.model.Probability;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Picks the mission of a turn. Selection runs on a {@link MissionBoard}: a single scan over its
+ * primitive arrays that skips the ads already tried this turn, compares probability ordinals
+ * and multiplies the reward by the success rate learned for its label and reward, without
+ * allocating. The list-based
+ * methods build a board first. {@link #rankMissions} keeps the best few ads of that scan in a
+ * bounded heap, so that the game can fall back to the next one when a solve fails.
+ */
 @Service
 public class MissionSelectionService {
 
-    private static final String P_SURE = "Sure Thing";
-    private static final String P_CAKE = "Piece of Cake";
-    private static final String P_PARK = "Walk in the park";
-    private static final String P_LIKELY = "Quite likely";
-    private static final String P_HMMM = "Hmmm....";
-    private static final String P_RISKY = "Risky";
-    private static final String P_FIRE = "Playing with fire";
-    private static final String P_SUICIDE = "Suicide mission";
-    private static final String P_IMPOSSIBLE = "Impossible";
+    private static final int IMPOSSIBLE = Probability.IMPOSSIBLE.ordinal();
+    private static final int SUICIDE_MISSION = Probability.SUICIDE_MISSION.ordinal();
+
+    private final SuccessRateTable successRates;
+
+    /**
+     * Selection on the documented success rates, which never learns.
+     */
+    public MissionSelectionService() {
+        this(SuccessRateTable.disabled());
+    }
+
+    @Autowired
+    public MissionSelectionService(SuccessRateTable successRates) {
+        this.successRates = successRates;
+    }
+
+    /**
+     * Feeds the outcome of a solve into the success rates that later selections use.
+     */
+    public void recordOutcome(Message mission, boolean success) {
+        successRates.record(mission.level(), mission.reward(), success);
+    }
 
     public Optional<Message> selectBestMission(List<Message> missions, int currentLives) {
         if (missions == null || missions.isEmpty()) return Optional.empty();
 
-        return missions.stream()
-                .filter(m -> m.expiresIn() > 0)
-                .filter(m -> isSafeEnough(m.probability(), currentLives))
-                .max(Comparator.comparingDouble(this::calculateExpectedValue));
+        MissionBoard board = MissionBoard.of(missions);
+        int selected = bestMissionIndex(board, currentLives);
+        return selected < 0 ? Optional.empty() : Optional.of(board.message(selected));
     }
 
     public Optional<Message> selectFallbackMission(List<Message> missions) {
         if (missions == null || missions.isEmpty()) return Optional.empty();
 
-        return missions.stream()
-                .filter(m -> m.expiresIn() > 0)
-                .filter(m -> !P_IMPOSSIBLE.equals(m.probability()) && !P_SUICIDE.equals(m.probability()))
-                .max(Comparator.comparingDouble(m -> getNumericProbability(m.probability())));
+        MissionBoard board = MissionBoard.of(missions);
+        int selected = fallbackMissionIndex(board);
+        return selected < 0 ? Optional.empty() : Optional.of(board.message(selected));
     }
 
-    private boolean isSafeEnough(String probability, int lives) {
-        if (probability == null) return false;
+    /**
+     * Index of the ad with the highest expected reward among those safe enough for
+     * {@code currentLives}, or -1. Ties keep the first ad.
+     */
+    public int bestMissionIndex(MissionBoard board, int currentLives) {
+        int riskiest = riskiestAcceptable(currentLives).ordinal();
+        int best = -1;
+        double bestValue = 0;
+        for (int i = 0; i < board.size(); i++) {
+            int level = board.levelCode(i);
+            if (level > riskiest || board.expiresIn(i) <= 0 || board.isAttempted(i)) {
+                continue;
+            }
+            double value = expectedValue(board, i, level);
+            if (best < 0 || value > bestValue) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
 
-        if (lives <= 1) {
-            return P_SURE.equals(probability) || P_CAKE.equals(probability);
+    /**
+     * Up to {@code limit} ads safe enough for {@code currentLives}, best first, in the order
+     * {@link #bestMissionIndex} would pick them as the better ones are attempted. A min-heap of
+     * {@code limit} entries keeps the best ads seen so far, so ranking costs O(n log limit).
+     */
+    public MissionCandidates rankMissions(MissionBoard board, int currentLives, int limit) {
+        int riskiest = riskiestAcceptable(currentLives).ordinal();
+        int capacity = Math.max(0, Math.min(limit, board.size()));
+        int[] heap = new int[capacity];
+        double[] values = new double[capacity];
+        int size = 0;
+        boolean plain = false;
+        for (int i = 0; i < board.size(); i++) {
+            int level = board.levelCode(i);
+            if (level > riskiest || board.expiresIn(i) <= 0 || board.isAttempted(i)) {
+                continue;
+            }
+            plain |= !board.isEncrypted(i);
+            double value = expectedValue(board, i, level);
+            if (size < capacity) {
+                heap[size] = i;
+                values[size] = value;
+                siftUp(heap, values, size++);
+            } else if (capacity > 0 && isWorse(values[0], heap[0], value, i)) {
+                heap[0] = i;
+                values[0] = value;
+                siftDown(heap, values, size);
+            }
         }
 
-        if (lives <= 2) {
-            return P_SURE.equals(probability) ||
-                    P_CAKE.equals(probability) ||
-                    P_PARK.equals(probability);
+        boolean onlyEncrypted = size > 0 && !plain;
+        int[] ranked = new int[size];
+        while (size > 0) {
+            ranked[--size] = heap[0];
+            heap[0] = heap[size];
+            values[0] = values[size];
+            siftDown(heap, values, size);
         }
+        return new MissionCandidates(board, currentLives, ranked, onlyEncrypted);
+    }
 
-        return switch (probability) {
-            case P_SURE, P_CAKE, P_PARK, P_LIKELY -> true;
-            default -> false;
-        };
+    /**
+     * Index of the most likely ad that is neither impossible nor a suicide mission, or -1.
+     */
+    public int fallbackMissionIndex(MissionBoard board) {
+        int best = -1;
+        double bestRate = 0;
+        for (int i = 0; i < board.size(); i++) {
+            int level = board.levelCode(i);
+            if (level == IMPOSSIBLE || level == SUICIDE_MISSION || board.expiresIn(i) <= 0 || board.isAttempted(i)) {
+                continue;
+            }
+            double rate = successRates.successRate(level, board.reward(i));
+            if (best < 0 || rate > bestRate) {
+                best = i;
+                bestRate = rate;
+            }
+        }
+        return best;
     }
 
-    private double calculateExpectedValue(Message mission) {
-        return mission.reward() * getNumericProbability(mission.probability());
+    private double expectedValue(MissionBoard board, int index, int level) {
+        int reward = board.reward(index);
+        return reward * successRates.successRate(level, reward);
     }
 
-    private double getNumericProbability(String p) {
-        if (p == null) return 0.0;
-        return switch (p) {
-            case P_SURE -> 1.0;
-            case P_CAKE -> 0.95;
-            case P_PARK -> 0.85;
-            case P_LIKELY -> 0.70;
-            case P_HMMM -> 0.50;
-            case P_RISKY -> 0.35;
-            case P_FIRE -> 0.20;
-            case P_SUICIDE -> 0.05;
-            default -> 0.0;
-        };
+    /**
+     * Whether the ad at {@code index} with {@code value} ranks below the one at {@code other}:
+     * a lower expected reward, or the same one further down the board.
+     */
+    private static boolean isWorse(double value, int index, double otherValue, int other) {
+        return value < otherValue || (value == otherValue && index > other);
+    }
+
+    private static void siftUp(int[] heap, double[] values, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isWorse(values[position], heap[position], values[parent], heap[parent])) {
+                return;
+            }
+            swap(heap, values, position, parent);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, double[] values, int size) {
+        int position = 0;
+        while (true) {
+            int worst = position;
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                if (isWorse(values[child], heap[child], values[worst], heap[worst])) {
+                    worst = child;
+                }
+            }
+            if (worst == position) {
+                return;
+            }
+            swap(heap, values, position, worst);
+            position = worst;
+        }
+    }
+
+    private static void swap(int[] heap, double[] values, int a, int b) {
+        int index = heap[a];
+        heap[a] = heap[b];
+        heap[b] = index;
+        double value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+
+    private static Probability riskiestAcceptable(int lives) {
+        if (lives <= 1) {
+            return Probability.PIECE_OF_CAKE;
+        }
+        if (lives <= 2) {
+            return Probability.WALK_IN_THE_PARK;
+        }
+        return Probability.QUITE_LIKELY;
     }
 }
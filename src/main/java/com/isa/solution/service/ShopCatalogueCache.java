@@ -0,0 +1,86 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.ShopItem;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shop listing per game. The catalogue and its prices do not change within a game, so it is
+ * fetched once and reused until a purchase fails or the game ends. Hit and miss counts are
+ * exported as {@code dragons.shop.catalogue.requests{result=hit|miss}}.
+ */
+@Component
+public class ShopCatalogueCache implements MeterBinder {
+
+    private final Map<String, List<ShopItem>> catalogues = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Returns the cached listing of the game, loading it on a miss. Loading happens outside the
+     * map so a slow shop call never blocks other games; a failed load caches nothing.
+     */
+    public List<ShopItem> get(String gameId, Function<String, List<ShopItem>> loader) {
+        List<ShopItem> cached = catalogues.get(gameId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        List<ShopItem> loaded = List.copyOf(loader.apply(gameId));
+        List<ShopItem> raced = catalogues.putIfAbsent(gameId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    public boolean contains(String gameId) {
+        return catalogues.containsKey(gameId);
+    }
+
+    /**
+     * Drops the listing after a failed purchase, so the next attempt sees current prices.
+     */
+    public void invalidate(String gameId) {
+        if (catalogues.remove(gameId) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drops the listing of a finished game.
+     */
+    public void evict(String gameId) {
+        catalogues.remove(gameId);
+    }
+
+    public int size() {
+        return catalogues.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dragons.shop.catalogue.requests", hits, LongAdder::sum)
+                .description("Shop catalogue lookups by cache result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dragons.shop.catalogue.requests", misses, LongAdder::sum)
+                .description("Shop catalogue lookups by cache result")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("dragons.shop.catalogue.invalidations", invalidations, LongAdder::sum)
+                .description("Cached shop catalogues dropped after a failed purchase")
+                .register(registry);
+        Gauge.builder("dragons.shop.catalogue.size", catalogues, Map::size)
+                .description("Games with a cached shop catalogue")
+                .register(registry);
+    }
+}
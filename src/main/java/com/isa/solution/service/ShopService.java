@@ -2,23 +2,33 @@ package com.isa.solution.service;
 
 import com.isa.solution.apiclient.DragonsApiClient;
 import com.isa.solution.exception.InsufficientResourcesException;
+import com.isa.solution.exception.InvalidRequestException;
 import com.isa.solution.model.PurchaseResponse;
 import com.isa.solution.model.ShopItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 public class ShopService {
 
     private static final Logger log = LoggerFactory.getLogger(ShopService.class);
     private final DragonsApiClient apiClient;
+    private final ShopCatalogueCache catalogue;
 
     public ShopService(DragonsApiClient apiClient) {
+        this(apiClient, new ShopCatalogueCache());
+    }
+
+    @Autowired
+    public ShopService(DragonsApiClient apiClient, ShopCatalogueCache catalogue) {
         this.apiClient = apiClient;
+        this.catalogue = catalogue;
     }
 
     private static final String HEALING_POTION = "hpot";
@@ -26,25 +36,62 @@ public class ShopService {
     private static final int GOLD_THRESHOLD_HIGH_PRIORITY = 100;
 
     public Optional<PurchaseResponse> buyHealingPotionIfNeeded(String gameId, int currentGold, int currentLives) {
+        if (!needsHealingPotion(currentGold, currentLives)) {
+            return Optional.empty();
+        }
+        return purchaseHealingPotion(gameId, currentGold, () -> shopItems(gameId));
+    }
+
+    /**
+     * Same purchase decision as {@link #buyHealingPotionIfNeeded}, but on a shop listing the
+     * caller already fetched (e.g. concurrently with the mission board). The caller is expected
+     * to have checked {@link #needsHealingPotion} first.
+     */
+    public Optional<PurchaseResponse> buyHealingPotion(String gameId, int currentGold, List<ShopItem> shopItems) {
+        return purchaseHealingPotion(gameId, currentGold, () -> shopItems);
+    }
+
+    /**
+     * Shop listing of the game, served from the per-game catalogue cache when possible.
+     */
+    public List<ShopItem> shopItems(String gameId) {
+        return catalogue.get(gameId, apiClient::getShopItems);
+    }
+
+    public boolean hasCachedShopItems(String gameId) {
+        return catalogue.contains(gameId);
+    }
+
+    /**
+     * Releases the cached catalogue of a finished game.
+     */
+    public void endGame(String gameId) {
+        catalogue.evict(gameId);
+    }
+
+    public boolean needsHealingPotion(int currentGold, int currentLives) {
         if (currentLives >= 3) {
             log.debug("Lives are sufficient ({}), no need to buy healing potion", currentLives);
-            return Optional.empty();
+            return false;
         }
 
         if (currentLives == 2 && currentGold < MIN_GOLD_RESERVE) {
             log.debug("Lives at 2 but gold too low ({}), skipping potion", currentGold);
-            return Optional.empty();
+            return false;
         }
 
         if (currentGold >= GOLD_THRESHOLD_HIGH_PRIORITY || currentLives == 1) {
-            log.info("High priority healing - Lives: {}, Gold: {}", currentLives, currentGold);
+            log.debug("High priority healing - Lives: {}, Gold: {}", currentLives, currentGold);
         } else if (currentGold < MIN_GOLD_RESERVE) {
             log.debug("Insufficient gold ({}) to buy healing potion safely", currentGold);
-            return Optional.empty();
+            return false;
         }
+        return true;
+    }
 
+    private Optional<PurchaseResponse> purchaseHealingPotion(String gameId, int currentGold, Supplier<List<ShopItem>> shop) {
         try {
-            List<ShopItem> shopItems = apiClient.getShopItems(gameId);
+            List<ShopItem> shopItems = shop.get();
             Optional<ShopItem> healingPotion = findHealingPotion(shopItems);
 
             if (healingPotion.isEmpty()) {
@@ -58,16 +105,27 @@ public class ShopService {
                 return Optional.empty();
             }
 
-            log.info("Purchasing healing potion for {} gold", potion.cost());
+            log.debug("Purchasing healing potion for {} gold", potion.cost());
             PurchaseResponse response = apiClient.purchaseItem(gameId, potion.id());
-            log.info("Purchase successful. Lives: {}, Gold remaining: {}", response.lives(), response.gold());
+            if (!response.shoppingSuccess()) {
+                log.warn("Healing potion purchase rejected by the shop");
+                catalogue.invalidate(gameId);
+                return Optional.empty();
+            }
+            log.debug("Purchase successful. Lives: {}, Gold remaining: {}", response.lives(), response.gold());
             return Optional.of(response);
 
         } catch (InsufficientResourcesException e) {
             log.warn("Failed to purchase healing potion: insufficient resources");
+            catalogue.invalidate(gameId);
+            return Optional.empty();
+        } catch (InvalidRequestException e) {
+            log.warn("Failed to purchase healing potion: {}", e.getMessage());
+            catalogue.invalidate(gameId);
             return Optional.empty();
         } catch (Exception e) {
             log.error("Error while trying to purchase healing potion", e);
+            catalogue.invalidate(gameId);
             return Optional.empty();
         }
     }
@@ -0,0 +1,250 @@
+package com.isa.solution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.model.Probability;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Success rates of missions learned from the solves of every game in the JVM. Outcomes are
+ * counted per probability label and reward bucket in striped counters, so concurrent games never
+ * contend on a lock. The documented rate of a label ({@link Probability#successRate()}) is the
+ * prior, worth {@code prior-weight} solves; a bucket's prior is the estimate of its label.
+ * A solve republishes the counts of its own bucket and the estimate of its label in arrays, so
+ * recording one costs four counter sums and reading a rate during selection three volatile reads.
+ * <p>
+ * With {@code dragons.game.learning.snapshot-file} set, the counts are loaded from that file at
+ * startup and written back every {@code snapshot-interval} and on shutdown.
+ * Estimates are exported as {@code dragons.game.success.rate{probability}}.
+ */
+@Component
+public class SuccessRateTable implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SuccessRateTable.class);
+
+    private static final Probability[] LEVELS = Probability.values();
+    /** Rewards are bucketed by bit length: 0, 1, 2-3, 4-7, ... and 16384 and above. */
+    static final int REWARD_BUCKETS = 16;
+
+    private final boolean enabled;
+    private final double priorWeight;
+    private final boolean rewardBuckets;
+    private final Path snapshotFile;
+    private final LongAdder[] attempts = new LongAdder[LEVELS.length * REWARD_BUCKETS];
+    private final LongAdder[] successes = new LongAdder[LEVELS.length * REWARD_BUCKETS];
+    private final LongAdder[] labelAttempts = new LongAdder[LEVELS.length];
+    private final LongAdder[] labelSuccesses = new LongAdder[LEVELS.length];
+    private final AtomicLongArray bucketAttempts = new AtomicLongArray(LEVELS.length * REWARD_BUCKETS);
+    private final AtomicLongArray bucketSuccesses = new AtomicLongArray(LEVELS.length * REWARD_BUCKETS);
+    private final AtomicLongArray labelEstimates = new AtomicLongArray(LEVELS.length);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService snapshots;
+
+    @Autowired
+    public SuccessRateTable(
+            @Value("${dragons.game.learning.enabled:true}") boolean enabled,
+            @Value("${dragons.game.learning.prior-weight:20}") double priorWeight,
+            @Value("${dragons.game.learning.reward-buckets:true}") boolean rewardBuckets,
+            @Value("${dragons.game.learning.snapshot-file:}") String snapshotFile,
+            @Value("${dragons.game.learning.snapshot-interval:5m}") Duration snapshotInterval
+    ) {
+        this.enabled = enabled;
+        this.priorWeight = Math.max(priorWeight, 1);
+        this.rewardBuckets = rewardBuckets;
+        this.snapshotFile = enabled && !snapshotFile.isBlank() ? Path.of(snapshotFile) : null;
+        for (int i = 0; i < attempts.length; i++) {
+            attempts[i] = new LongAdder();
+            successes[i] = new LongAdder();
+        }
+        for (int i = 0; i < labelAttempts.length; i++) {
+            labelAttempts[i] = new LongAdder();
+            labelSuccesses[i] = new LongAdder();
+        }
+        if (this.snapshotFile != null) {
+            load();
+        }
+        for (int slot = 0; slot < attempts.length; slot++) {
+            publish(slot);
+        }
+        long millis = snapshotInterval.toMillis();
+        if (this.snapshotFile != null && millis > 0) {
+            snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "success-rate-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshots.scheduleWithFixedDelay(this::save, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            snapshots = null;
+        }
+    }
+
+    /**
+     * The documented rates, never updated, for services built outside Spring.
+     */
+    public static SuccessRateTable disabled() {
+        return new SuccessRateTable(false, 1, false, "", Duration.ZERO);
+    }
+
+    /**
+     * Records the outcome of a solve.
+     */
+    public void record(Probability level, int reward, boolean success) {
+        if (!enabled) {
+            return;
+        }
+        int slot = slot(level.ordinal(), reward);
+        attempts[slot].increment();
+        labelAttempts[level.ordinal()].increment();
+        if (success) {
+            successes[slot].increment();
+            labelSuccesses[level.ordinal()].increment();
+        }
+        publish(slot);
+    }
+
+    /**
+     * Estimated success rate of an ad with the given {@link Probability} ordinal and reward.
+     */
+    public double successRate(int levelCode, int reward) {
+        double labelRate = Double.longBitsToDouble(labelEstimates.get(levelCode));
+        if (rewardBuckets) {
+            int slot = slot(levelCode, reward);
+            return posterior(bucketSuccesses.get(slot), bucketAttempts.get(slot), labelRate);
+        }
+        return labelRate;
+    }
+
+    public long attempts(Probability level) {
+        return labelAttempts[level.ordinal()].sum();
+    }
+
+    /**
+     * Writes the counts to the snapshot file, replacing it atomically. Does nothing without one.
+     */
+    public synchronized void save() {
+        if (snapshotFile == null) {
+            return;
+        }
+        List<Counts> counts = new ArrayList<>();
+        for (int slot = 0; slot < attempts.length; slot++) {
+            long attempted = attempts[slot].sum();
+            if (attempted > 0) {
+                counts.add(new Counts(LEVELS[slot / REWARD_BUCKETS].name(), slot % REWARD_BUCKETS, attempted,
+                        successes[slot].sum()));
+            }
+        }
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), counts);
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write success-rate snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Probability level : LEVELS) {
+            Gauge.builder("dragons.game.success.rate", labelEstimates,
+                            estimates -> Double.longBitsToDouble(estimates.get(level.ordinal())))
+                    .description("Learned success rate of missions with a probability label")
+                    .tag("probability", level.name())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (snapshots != null) {
+            snapshots.shutdownNow();
+        }
+        save();
+    }
+
+    private void load() {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+        try {
+            Counts[] counts = objectMapper.readValue(snapshotFile.toFile(), Counts[].class);
+            for (Counts c : counts) {
+                Probability level = level(c.probability());
+                if (level == null) {
+                    log.warn("Skipping unknown probability {} in success-rate snapshot {}", c.probability(), snapshotFile);
+                    continue;
+                }
+                if (c.rewardBucket() < 0 || c.rewardBucket() >= REWARD_BUCKETS || c.successes() > c.attempts()) {
+                    continue;
+                }
+                int slot = level.ordinal() * REWARD_BUCKETS + c.rewardBucket();
+                attempts[slot].add(c.attempts());
+                successes[slot].add(c.successes());
+                labelAttempts[level.ordinal()].add(c.attempts());
+                labelSuccesses[level.ordinal()].add(c.successes());
+            }
+            log.info("Loaded success rates of {} label/reward buckets from {}", counts.length, snapshotFile);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable success-rate snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes the counts of a bucket and the posterior mean of its label; the other buckets of
+     * the label pick up the new prior when they are read. Concurrent solves may publish in either
+     * order; the next solve corrects a stale value.
+     */
+    private void publish(int slot) {
+        int level = slot / REWARD_BUCKETS;
+        bucketAttempts.set(slot, attempts[slot].sum());
+        bucketSuccesses.set(slot, successes[slot].sum());
+        double labelRate = posterior(labelSuccesses[level].sum(), labelAttempts[level].sum(), LEVELS[level].successRate());
+        labelEstimates.set(level, Double.doubleToRawLongBits(labelRate));
+    }
+
+    private double posterior(long successes, long attempts, double prior) {
+        return (successes + priorWeight * prior) / (attempts + priorWeight);
+    }
+
+    private static Probability level(String name) {
+        for (Probability level : LEVELS) {
+            if (level.name().equals(name)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    private static int slot(int levelCode, int reward) {
+        int bucket = Math.min(REWARD_BUCKETS - 1, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(reward, 0)));
+        return levelCode * REWARD_BUCKETS + bucket;
+    }
+
+    /**
+     * One line of the snapshot file.
+     */
+    record Counts(String probability, int rewardBucket, long attempts, long successes) {
+    }
+}
@@ -0,0 +1,287 @@
+package com.isa.solution.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.SolveResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Dragons of Mugloar API with the endpoints and JSON shapes the client
+ * uses. Boards and solve outcomes are seeded per game, so a given seed replays the same games
+ * regardless of how many are played concurrently. Latency and HTTP 500 errors can be injected;
+ * they are drawn from the same seed, per game for requests to a game.
+ *
+ * <p>Embedded: {@code try (DragonsSimulator simulator = DragonsSimulator.start(settings, 0)) { ... }}.
+ * Standalone: {@code mvn compile exec:java -Dexec.mainClass=com.isa.solution.simulator.DragonsSimulator
+ * -Dexec.args="--port=8090 --seed=7 --latency-ms=40"}.
+ */
+public final class DragonsSimulator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DragonsSimulator.class);
+    private static final int EVICTION_INTERVAL = 1024;
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, every
+        // response waits for the client's delayed ACK (~40 ms). Only effective if set before
+        // the first HttpServer of the JVM is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final SimulatorSettings settings;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, SimulatedGame> games = new ConcurrentHashMap<>();
+    private final SplittableRandom gameSeeds;
+    private final SplittableRandom faults;
+    private final AtomicLong startedGames = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private DragonsSimulator(SimulatorSettings settings, int port) throws IOException {
+        this.settings = settings;
+        this.gameSeeds = new SplittableRandom(settings.seed());
+        this.faults = new SplittableRandom(settings.seed()).split();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * Starts a simulator on {@code port}, or on a free port when {@code port} is 0.
+     */
+    public static DragonsSimulator start(SimulatorSettings settings, int port) throws IOException {
+        return new DragonsSimulator(settings, port);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public SimulatorSettings settings() {
+        return settings;
+    }
+
+    public long startedGames() {
+        return startedGames.get();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public int activeGames() {
+        return games.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            String[] path = exchange.getRequestURI().getPath().substring(1).split("/");
+            SimulatedGame game = path.length >= 2 ? games.get(path[0]) : null;
+            SplittableRandom random = game != null ? game.faults() : faults;
+            delay(random);
+            if (settings.errorRate() > 0 && nextDouble(random) < settings.errorRate()) {
+                injectedErrors.incrementAndGet();
+                respond(exchange, 500, Map.of("error", "Internal Server Error"));
+                return;
+            }
+            route(exchange, exchange.getRequestMethod(), path, game);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void route(HttpExchange exchange, String method, String[] path, SimulatedGame game) throws IOException {
+        if (path.length == 2 && "game".equals(path[0]) && "start".equals(path[1])) {
+            if (requireMethod(exchange, method, "POST")) {
+                respond(exchange, 200, startGame().snapshot());
+            }
+            return;
+        }
+
+        if (game == null) {
+            respond(exchange, 404, Map.of("error", "No game by this ID exists"));
+            return;
+        }
+        game.touch();
+
+        String endpoint = switch (path.length) {
+            case 2 -> path[1];
+            case 3 -> "solve".equals(path[1]) ? "solve" : "";
+            case 4 -> "shop".equals(path[1]) && "buy".equals(path[2]) ? "buy" : "";
+            default -> "";
+        };
+        switch (endpoint) {
+            case "messages" -> {
+                if (requireMethod(exchange, method, "GET")) {
+                    List<Message> board;
+                    synchronized (game) {
+                        board = game.board();
+                    }
+                    respond(exchange, 200, board);
+                }
+            }
+            case "shop" -> {
+                if (requireMethod(exchange, method, "GET")) {
+                    respond(exchange, 200, SimulatedGame.SHOP);
+                }
+            }
+            case "solve" -> {
+                if (requireMethod(exchange, method, "POST")) {
+                    solve(exchange, game, path[2]);
+                }
+            }
+            case "buy" -> {
+                if (requireMethod(exchange, method, "POST")) {
+                    buy(exchange, game, path[3]);
+                }
+            }
+            default -> respond(exchange, 404, Map.of("error", "Not found"));
+        }
+    }
+
+    private SimulatedGame startGame() {
+        long seed;
+        synchronized (gameSeeds) {
+            seed = gameSeeds.nextLong();
+        }
+        String gameId = Long.toString(seed & Long.MAX_VALUE, 36);
+        SimulatedGame game = new SimulatedGame(gameId, settings, seed);
+        games.put(gameId, game);
+        if (startedGames.incrementAndGet() % EVICTION_INTERVAL == 0) {
+            evictIdleGames();
+        }
+        return game;
+    }
+
+    private void solve(HttpExchange exchange, SimulatedGame game, String adId) throws IOException {
+        synchronized (game) {
+            if (game.isOver()) {
+                respond(exchange, 410, Map.of("status", "Game Over"));
+                return;
+            }
+            Optional<SolveResponse> response = game.solve(adId);
+            if (response.isEmpty()) {
+                respond(exchange, 404, Map.of("error", "No ad by this ID exists"));
+                return;
+            }
+            respond(exchange, 200, response.get());
+        }
+    }
+
+    private void buy(HttpExchange exchange, SimulatedGame game, String itemId) throws IOException {
+        synchronized (game) {
+            if (game.isOver()) {
+                respond(exchange, 410, Map.of("status", "Game Over"));
+                return;
+            }
+            Optional<PurchaseResponse> response = game.buy(itemId);
+            if (response.isEmpty()) {
+                respond(exchange, 404, Map.of("error", "No item by this ID exists"));
+                return;
+            }
+            respond(exchange, 200, response.get());
+        }
+    }
+
+    private void evictIdleGames() {
+        long cutoff = System.nanoTime() - settings.gameIdleTimeout().toNanos();
+        games.values().removeIf(game -> game.isOver() || game.lastAccessNanos() < cutoff);
+    }
+
+    private void delay(SplittableRandom random) throws InterruptedException {
+        long millis = settings.latency().toMillis();
+        long jitter = settings.latencyJitter().toMillis();
+        if (jitter > 0) {
+            synchronized (random) {
+                millis += random.nextLong(jitter + 1);
+            }
+        }
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private static double nextDouble(SplittableRandom random) {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private boolean requireMethod(HttpExchange exchange, String method, String expected) throws IOException {
+        if (expected.equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", expected);
+        respond(exchange, 405, Map.of("error", "Method not allowed"));
+        return false;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Runs a standalone simulator until the process is stopped. Options: {@code --port},
+     * {@code --seed}, {@code --board-size}, {@code --latency-ms}, {@code --jitter-ms},
+     * {@code --error-rate}, {@code --encrypted-rate}.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        SimulatorSettings settings = SimulatorSettings.defaults()
+                .withSeed(Long.parseLong(options.getOrDefault("seed", "42")))
+                .withBoardSize(Integer.parseInt(options.getOrDefault("board-size", "10")))
+                .withLatency(Duration.ofMillis(Long.parseLong(options.getOrDefault("latency-ms", "0"))),
+                        Duration.ofMillis(Long.parseLong(options.getOrDefault("jitter-ms", "0"))))
+                .withErrorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                .withEncryptedRate(Double.parseDouble(options.getOrDefault("encrypted-rate", "0")));
+
+        DragonsSimulator simulator = start(settings, Integer.parseInt(options.getOrDefault("port", "8090")));
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        log.info("Dragons API simulator listening on {} (seed {})", simulator.baseUrl(), settings.seed());
+    }
+}
@@ -0,0 +1,205 @@
+package com.isa.solution.simulator;
+
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.ShopItem;
+import com.isa.solution.model.SolveResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * State of one simulated game. Every solve or purchase takes a turn: ads age by one, expired
+ * ads disappear and the board is topped up again. Encrypted ads are kept in plain text with
+ * their {@code encrypted} value and only encoded when the board is read, so they are solved by
+ * their decoded id. All methods are called under the game's lock.
+ */
+final class SimulatedGame {
+
+    static final List<ShopItem> SHOP = List.of(
+            new ShopItem("hpot", "Healing potion", 50),
+            new ShopItem("cs", "Claw Sharpening", 100),
+            new ShopItem("gas", "Gasoline", 100),
+            new ShopItem("wax", "Copper Plating", 100),
+            new ShopItem("tricks", "Book of Tricks", 100),
+            new ShopItem("wingpot", "Potion of Stronger Wings", 100),
+            new ShopItem("ch", "Claw Honing", 300),
+            new ShopItem("rf", "Rocket Fuel", 300),
+            new ShopItem("iron", "Iron Plating", 300),
+            new ShopItem("mtrix", "Book of Megatricks", 300),
+            new ShopItem("wingpotmax", "Potion of Awesome Wings", 300));
+
+    private static final String[] MESSAGES = {
+            "Help Tarquin Fitzgerald to transport a magic carpet to Dunmead",
+            "Escort Lucius Peters to the Thornwall market",
+            "Steal dog delicacies from the Hollow Vale and share them with the dragons",
+            "Kill Reynard the Knight with poison and recover their skull"
+    };
+
+    private final String gameId;
+    private final SimulatorSettings settings;
+    private final SplittableRandom random;
+    private final SplittableRandom faults;
+    private final List<String> labels;
+    private final int totalWeight;
+    private final List<Message> board;
+    private int lives = 3;
+    private int gold;
+    private int level;
+    private int score;
+    private int highScore;
+    private int turn;
+    private long adSequence;
+    private volatile long lastAccessNanos;
+
+    SimulatedGame(String gameId, SimulatorSettings settings, long seed) {
+        this.gameId = gameId;
+        this.settings = settings;
+        this.random = new SplittableRandom(seed);
+        this.faults = new SplittableRandom(seed).split();
+        this.labels = settings.labelWeights().keySet().stream().sorted().toList();
+        this.totalWeight = settings.labelWeights().values().stream().mapToInt(Integer::intValue).sum();
+        this.board = new ArrayList<>(settings.boardSize());
+        refill();
+        touch();
+    }
+
+    String gameId() {
+        return gameId;
+    }
+
+    /**
+     * Source of the latency and errors injected into requests for this game, independent of the
+     * board and solve outcomes. Callers synchronize on it.
+     */
+    SplittableRandom faults() {
+        return faults;
+    }
+
+    boolean isOver() {
+        return lives <= 0;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    Game snapshot() {
+        return new Game(gameId, lives, gold, level, score, turn, highScore);
+    }
+
+    List<Message> board() {
+        return board.stream().map(SimulatedGame::encoded).toList();
+    }
+
+    Optional<SolveResponse> solve(String adId) {
+        Optional<Message> ad = board.stream().filter(m -> m.adId().equals(adId)).findFirst();
+        if (ad.isEmpty()) {
+            return Optional.empty();
+        }
+        Message mission = ad.get();
+        board.remove(mission);
+
+        boolean success = random.nextDouble() < settings.successRates().get(mission.probability());
+        if (success) {
+            score += mission.reward();
+            gold += mission.reward();
+            highScore = Math.max(highScore, score);
+        } else {
+            lives--;
+        }
+        nextTurn();
+        return Optional.of(new SolveResponse(success, lives, gold, score, highScore, turn,
+                success ? "You successfully solved the mission!" : "You have failed the mission"));
+    }
+
+    Optional<PurchaseResponse> buy(String itemId) {
+        Optional<ShopItem> item = SHOP.stream().filter(i -> i.id().equals(itemId)).findFirst();
+        if (item.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean success = gold >= item.get().cost();
+        if (success) {
+            gold -= item.get().cost();
+            if ("hpot".equals(itemId)) {
+                lives++;
+            } else {
+                level++;
+            }
+        }
+        nextTurn();
+        return Optional.of(new PurchaseResponse(success, lives, gold, level, turn));
+    }
+
+    private void nextTurn() {
+        turn++;
+        board.replaceAll(m -> new Message(m.adId(), m.message(), m.probability(), m.expiresIn() - 1, m.reward(), m.encrypted()));
+        board.removeIf(m -> m.expiresIn() <= 0);
+        refill();
+    }
+
+    private void refill() {
+        while (board.size() < settings.boardSize()) {
+            String label = drawLabel();
+            double risk = 1.0 - settings.successRates().get(label);
+            int base = settings.minReward() + random.nextInt(settings.maxReward() - settings.minReward() + 1);
+            Integer encrypted = settings.encryptedRate() > 0 && random.nextDouble() < settings.encryptedRate()
+                    ? (int) (adSequence % 2) + 1
+                    : null;
+            board.add(new Message(
+                    Long.toString(adSequence++, 36) + Integer.toString(random.nextInt(1 << 20), 36),
+                    MESSAGES[random.nextInt(MESSAGES.length)],
+                    label,
+                    1 + random.nextInt(settings.maxExpiresIn()),
+                    (int) Math.round(base * (1.0 + risk)),
+                    encrypted));
+        }
+    }
+
+    private String drawLabel() {
+        int pick = random.nextInt(totalWeight);
+        Map<String, Integer> weights = settings.labelWeights();
+        for (String label : labels) {
+            pick -= weights.get(label);
+            if (pick < 0) {
+                return label;
+            }
+        }
+        return labels.get(labels.size() - 1);
+    }
+
+    private static Message encoded(Message ad) {
+        if (ad.encrypted() == null) {
+            return ad;
+        }
+        return new Message(encode(ad.encrypted(), ad.adId()), encode(ad.encrypted(), ad.message()),
+                encode(ad.encrypted(), ad.probability()), ad.expiresIn(), ad.reward(), ad.encrypted());
+    }
+
+    private static String encode(int encryption, String value) {
+        if (encryption == 1) {
+            return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder rotated = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c >= 'a' && c <= 'z') {
+                rotated.append((char) ('a' + (c - 'a' + 13) % 26));
+            } else if (c >= 'A' && c <= 'Z') {
+                rotated.append((char) ('A' + (c - 'A' + 13) % 26));
+            } else {
+                rotated.append(c);
+            }
+        }
+        return rotated.toString();
+    }
+}
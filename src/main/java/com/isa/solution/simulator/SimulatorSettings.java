@@ -0,0 +1,126 @@
+package com.isa.solution.simulator;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Behaviour of a {@link DragonsSimulator}.
+ *
+ * @param seed          seeds game ids, boards and solve outcomes; equal seeds replay equal games
+ * @param successRates  chance of a successful solve per probability label
+ * @param labelWeights  relative frequency of each label on generated boards
+ * @param boardSize     ads kept on a board; expired and solved ads are replaced every turn
+ * @param minReward     lower bound of an ad reward before the risk bonus
+ * @param maxReward     upper bound of an ad reward before the risk bonus
+ * @param maxExpiresIn  ads expire after 1 to {@code maxExpiresIn} turns
+ * @param latency       base delay before every response
+ * @param latencyJitter uniformly distributed extra delay on top of {@code latency}
+ * @param errorRate     fraction of requests answered with HTTP 500 instead of being processed
+ * @param gameIdleTimeout games without a request for this long are forgotten
+ * @param encryptedRate fraction of generated ads sent encrypted, alternately Base64 (1) and ROT13 (2)
+ */
+public record SimulatorSettings(
+        long seed,
+        Map<String, Double> successRates,
+        Map<String, Integer> labelWeights,
+        int boardSize,
+        int minReward,
+        int maxReward,
+        int maxExpiresIn,
+        Duration latency,
+        Duration latencyJitter,
+        double errorRate,
+        Duration gameIdleTimeout,
+        double encryptedRate
+) {
+
+    public SimulatorSettings {
+        if (successRates.isEmpty() || !successRates.keySet().equals(labelWeights.keySet())) {
+            throw new IllegalArgumentException("successRates and labelWeights must cover the same labels");
+        }
+        if (labelWeights.values().stream().anyMatch(weight -> weight < 0)
+                || labelWeights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("labelWeights must be non-negative with a positive sum");
+        }
+        if (boardSize < 1 || minReward < 0 || maxReward < minReward || maxExpiresIn < 1) {
+            throw new IllegalArgumentException("Invalid board settings");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        if (encryptedRate < 0 || encryptedRate > 1) {
+            throw new IllegalArgumentException("encryptedRate must be between 0 and 1");
+        }
+        successRates = Map.copyOf(successRates);
+        labelWeights = Map.copyOf(labelWeights);
+    }
+
+    public static SimulatorSettings defaults() {
+        Map<String, Double> successRates = new LinkedHashMap<>();
+        successRates.put("Sure Thing", 0.95);
+        successRates.put("Piece of Cake", 0.9);
+        successRates.put("Walk in the park", 0.85);
+        successRates.put("Quite likely", 0.75);
+        successRates.put("Hmmm....", 0.6);
+        successRates.put("Gamble", 0.5);
+        successRates.put("Risky", 0.45);
+        successRates.put("Playing with fire", 0.35);
+        successRates.put("Rather detrimental", 0.25);
+        successRates.put("Suicide mission", 0.15);
+        successRates.put("Impossible", 0.05);
+
+        Map<String, Integer> labelWeights = new LinkedHashMap<>();
+        successRates.keySet().forEach(label -> labelWeights.put(label, 1));
+
+        return new SimulatorSettings(42L, successRates, labelWeights, 10, 10, 150, 7,
+                Duration.ZERO, Duration.ZERO, 0.0, Duration.ofMinutes(10), 0.0);
+    }
+
+    /**
+     * Every ad is a "Sure Thing" that always succeeds and pays {@code 1000 / solvesPerGame}
+     * (rounded up), so each game reaches the target score after exactly {@code solvesPerGame}
+     * solves. Useful when a run should measure the client's scheduling, not its strategy.
+     */
+    public static SimulatorSettings deterministic(int solvesPerGame) {
+        int reward = (1000 + solvesPerGame - 1) / solvesPerGame;
+        return defaults()
+                .withDistribution(Map.of("Sure Thing", 1.0), Map.of("Sure Thing", 1))
+                .withRewards(reward, reward);
+    }
+
+    public SimulatorSettings withSeed(long seed) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withDistribution(Map<String, Double> successRates, Map<String, Integer> labelWeights) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withBoardSize(int boardSize) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withRewards(int minReward, int maxReward) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withLatency(Duration latency, Duration latencyJitter) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withErrorRate(double errorRate) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+
+    public SimulatorSettings withEncryptedRate(double encryptedRate) {
+        return new SimulatorSettings(seed, successRates, labelWeights, boardSize, minReward, maxReward,
+                maxExpiresIn, latency, latencyJitter, errorRate, gameIdleTimeout, encryptedRate);
+    }
+}
@@ -0,0 +1,83 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.GameNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ApiCallMetricsTest {
+
+    private static final String BASE_URL = "http://dragons.test";
+
+    private SimpleMeterRegistry registry;
+    private ApiCallMetrics metrics;
+    private MockRestServiceServer server;
+    private DragonsApiClientImpl apiClient;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ApiCallMetrics(registry);
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.createServer(restTemplate);
+        apiClient = new DragonsApiClientImpl(restTemplate,
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), BASE_URL, metrics, ApiRateLimiter.unlimited(),
+                ApiRetryPolicy.disabled(), HedgedRequestExecutor.disabled(),
+                ApiCircuitBreakers.disabled());
+    }
+
+    @Test
+    void testSuccessfulCallIsTimedPerOperation() {
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        apiClient.getAllMissions("g1");
+        apiClient.getAllMissions("g1");
+
+        assertEquals(2, timerCount("getMissions", "success", "none"));
+        assertEquals(0, metrics.inFlight(Operation.GET_MISSIONS));
+        assertEquals(0, registry.get(ApiCallMetrics.ACTIVE).tag("operation", "getMissions").gauge().value());
+    }
+
+    @Test
+    void testFailuresAreTaggedByExceptionAndStatus() {
+        server.expect(requestTo(BASE_URL + "/g1/shop")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/g1/shop")).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo(BASE_URL + "/g1/shop")).andRespond(request -> {
+            throw new ResourceAccessException("Connection refused");
+        });
+
+        assertThrows(GameNotFoundException.class, () -> apiClient.getShopItems("g1"));
+        assertThrows(ApiResponseException.class, () -> apiClient.getShopItems("g1"));
+        assertThrows(ApiConnectionException.class, () -> apiClient.getShopItems("g1"));
+
+        assertEquals(1, timerCount("getShopItems", "GameNotFoundException", "none"));
+        assertEquals(1, timerCount("getShopItems", "ApiResponseException", "503"));
+        assertEquals(1, timerCount("getShopItems", "ApiConnectionException", "none"));
+        assertEquals(0, metrics.inFlight(Operation.GET_SHOP_ITEMS));
+    }
+
+    private long timerCount(String operation, String outcome, String status) {
+        return registry.get(ApiCallMetrics.REQUESTS)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .timer()
+                .count();
+    }
+}
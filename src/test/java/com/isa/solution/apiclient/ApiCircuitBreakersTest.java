@@ -0,0 +1,170 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.apiclient.CircuitBreaker.Outcome;
+import com.isa.solution.apiclient.CircuitBreaker.Phase;
+import com.isa.solution.apiclient.CircuitBreaker.State;
+import com.isa.solution.config.CircuitBreakerProperties;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.config.RetryProperties;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.CircuitBreakerOpenException;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ApiCircuitBreakersTest {
+
+    private static final String BASE_URL = "http://dragons.test";
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void testOpensOnFailureRate() {
+        CircuitBreaker breaker = new CircuitBreaker(properties(Duration.ofSeconds(10)));
+
+        for (int i = 0; i < 5; i++) {
+            Phase admitted = breaker.tryAcquire();
+            assertNotNull(admitted);
+            breaker.record(admitted, i % 2 == 0 ? Outcome.FAILURE : Outcome.SUCCESS, FAST);
+        }
+        assertEquals(State.CLOSED, breaker.state());
+        breaker.record(breaker.tryAcquire(), Outcome.FAILURE, FAST);
+
+        assertEquals(State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1, breaker.rejected());
+    }
+
+    @Test
+    void testOpensOnSlowCallRate() {
+        CircuitBreaker breaker = new CircuitBreaker(properties(Duration.ofSeconds(10)));
+
+        for (int i = 0; i < 6; i++) {
+            breaker.record(breaker.tryAcquire(), Outcome.SUCCESS, SLOW);
+        }
+
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testHalfOpenProbesCloseOrReopen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(properties(Duration.ofMillis(50)));
+        for (int i = 0; i < 6; i++) {
+            breaker.record(breaker.tryAcquire(), Outcome.FAILURE, FAST);
+        }
+        Thread.sleep(80);
+
+        Phase probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        assertNotNull(breaker.tryAcquire());
+        assertNull(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.record(probe, Outcome.FAILURE, FAST);
+        assertEquals(State.OPEN, breaker.state());
+        assertEquals(2, breaker.opened());
+
+        Thread.sleep(80);
+        Phase first = breaker.tryAcquire();
+        Phase second = breaker.tryAcquire();
+        breaker.record(first, Outcome.SUCCESS, FAST);
+        breaker.record(second, Outcome.SUCCESS, FAST);
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testIgnoredProbeIsAdmittedAgainAfterRejections() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(properties(Duration.ofMillis(50)));
+        for (int i = 0; i < 6; i++) {
+            breaker.record(breaker.tryAcquire(), Outcome.FAILURE, FAST);
+        }
+        Thread.sleep(80);
+        Phase first = breaker.tryAcquire();
+        Phase second = breaker.tryAcquire();
+        for (int i = 0; i < 10; i++) {
+            assertNull(breaker.tryAcquire());
+        }
+
+        breaker.record(first, Outcome.IGNORED, 0);
+
+        Phase retried = breaker.tryAcquire();
+        assertNotNull(retried);
+        breaker.record(second, Outcome.SUCCESS, FAST);
+        breaker.record(retried, Outcome.SUCCESS, FAST);
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testCallAdmittedWhileClosedIsNotAProbe() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(properties(Duration.ofMillis(50)));
+        Phase closed = breaker.tryAcquire();
+        for (int i = 0; i < 6; i++) {
+            breaker.record(breaker.tryAcquire(), Outcome.FAILURE, FAST);
+        }
+        Thread.sleep(80);
+        Phase probe = breaker.tryAcquire();
+
+        breaker.record(closed, Outcome.FAILURE, FAST);
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.record(probe, Outcome.SUCCESS, FAST);
+        breaker.record(breaker.tryAcquire(), Outcome.SUCCESS, FAST);
+
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(1, breaker.opened());
+    }
+
+    @Test
+    void testClassification() {
+        assertEquals(Outcome.FAILURE, ApiCircuitBreakers.classify(new ApiConnectionException("x", "timeout", null)));
+        assertEquals(Outcome.FAILURE, ApiCircuitBreakers.classify(new ApiResponseException(503, "down", null)));
+        assertEquals(Outcome.SUCCESS, ApiCircuitBreakers.classify(new GameNotFoundException("g1", null)));
+        assertEquals(Outcome.IGNORED, ApiCircuitBreakers.classify(new RateLimitExceededException(1)));
+    }
+
+    @Test
+    void testOpenBreakerFailsFastWithoutCallingTheApi() {
+        ApiCircuitBreakers breakers = new ApiCircuitBreakers(properties(Duration.ofSeconds(10)));
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.createServer(restTemplate);
+        DragonsApiClientImpl apiClient = new DragonsApiClientImpl(restTemplate,
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), BASE_URL,
+                ApiCallMetrics.disabled(), ApiRateLimiter.unlimited(),
+                new ApiRetryPolicy(new RetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(1), 1.0, 0,
+                        RetryProperties.Hedge.disabled())),
+                HedgedRequestExecutor.disabled(), breakers);
+        server.expect(times(6), requestTo(BASE_URL + "/g1/messages")).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo(BASE_URL + "/game/start")).andRespond(withSuccess(
+                "{\"gameId\":\"g2\",\"lives\":3,\"gold\":0,\"level\":0,\"score\":0,\"turn\":0,\"highScore\":0}",
+                MediaType.APPLICATION_JSON));
+
+        assertThrows(ApiResponseException.class, () -> apiClient.getAllMissions("g1"));
+        assertThrows(ApiResponseException.class, () -> apiClient.getAllMissions("g1"));
+        assertThrows(CircuitBreakerOpenException.class, () -> apiClient.getAllMissions("g1"));
+
+        assertTrue(breakers.isOpen(Operation.GET_MISSIONS));
+        assertEquals("g2", apiClient.startGame().gameId());
+        server.verify();
+    }
+
+    private static CircuitBreakerProperties properties(Duration openDuration) {
+        return new CircuitBreakerProperties(true, 10, 6, 50, Duration.ofSeconds(1), 80, openDuration, 2);
+    }
+}
@@ -0,0 +1,152 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.config.RateLimitProperties;
+import com.isa.solution.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ApiRateLimiterTest {
+
+    private static final String BASE_URL = "http://dragons.test";
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testBucketAllowsBurstThenSpacesPermits() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = System.nanoTime();
+
+        assertEquals(0, bucket.reserve(now, SECOND));
+        assertEquals(0, bucket.reserve(now, SECOND));
+        assertEquals(0, bucket.reserve(now, SECOND));
+        assertEquals(SECOND / 10, bucket.reserve(now, SECOND));
+        assertEquals(2 * SECOND / 10, bucket.reserve(now, SECOND));
+    }
+
+    @Test
+    void testBucketRefusesWaitBeyondLimitWithoutReserving() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        long now = System.nanoTime();
+
+        assertEquals(0, bucket.reserve(now, 0));
+        assertEquals(-1, bucket.reserve(now, SECOND / 2));
+        assertEquals(SECOND, bucket.reserve(now, SECOND));
+    }
+
+    @Test
+    void testConcurrentReservationsNeverShareASlot() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 1);
+        long now = System.nanoTime();
+        AtomicLong totalWait = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<?> f : IntStream.range(0, 800)
+                    .mapToObj(i -> pool.submit(() -> totalWait.addAndGet(bucket.reserve(now, Long.MAX_VALUE))))
+                    .toList()) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long interval = SECOND / 1000;
+        assertEquals(interval * 799L * 800 / 2, totalWait.get());
+    }
+
+    @Test
+    void testPerEndpointLimits() {
+        RateLimitProperties properties = properties(Duration.ZERO,
+                Map.of("solve-mission", new RateLimitProperties.Limit(1, 1)));
+        ApiRateLimiter limiter = new ApiRateLimiter(properties);
+
+        limiter.acquire(Operation.SOLVE_MISSION);
+        RateLimitExceededException rejected = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(Operation.SOLVE_MISSION));
+        assertEquals(1, rejected.getRetryAfterSeconds());
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(Operation.GET_MISSIONS);
+        }
+        assertEquals(1, properties.limitFor("solveMission").permitsPerSecond());
+    }
+
+    @Test
+    void testTooManyRequestsPausesAllEndpoints() {
+        ApiRateLimiter limiter = new ApiRateLimiter(properties(Duration.ofMillis(100), Map.of()));
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.createServer(restTemplate);
+        DragonsApiClientImpl apiClient = new DragonsApiClientImpl(restTemplate,
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), BASE_URL,
+                ApiCallMetrics.disabled(), limiter, ApiRetryPolicy.disabled(), HedgedRequestExecutor.disabled(),
+                ApiCircuitBreakers.disabled());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "2");
+        server.expect(requestTo(BASE_URL + "/g1/solve/ad1")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(headers));
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> apiClient.solveMission("g1", "ad1"));
+
+        assertEquals(2, e.getRetryAfterSeconds());
+        assertTrue(limiter.remainingPause().toMillis() > 1000);
+        RateLimitExceededException paused = assertThrows(RateLimitExceededException.class,
+                () -> apiClient.getAllMissions("g1"));
+        assertEquals(2, paused.getRetryAfterSeconds());
+        server.verify();
+    }
+
+    @Test
+    void testShortPauseIsWaitedOut() {
+        ApiRateLimiter limiter = new ApiRateLimiter(properties(Duration.ofSeconds(1), Map.of()));
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.createServer(restTemplate);
+        DragonsApiClientImpl apiClient = new DragonsApiClientImpl(restTemplate,
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), BASE_URL,
+                ApiCallMetrics.disabled(), limiter, ApiRetryPolicy.disabled(), HedgedRequestExecutor.disabled(),
+                ApiCircuitBreakers.disabled());
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> apiClient.getAllMissions("g1"));
+        long start = System.nanoTime();
+        apiClient.getAllMissions("g1");
+
+        assertNull(e.getRetryAfterSeconds());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        server.verify();
+    }
+
+    @Test
+    void testRetryAfterAsHttpDate() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        assertEquals(0, ApiErrorMapper.retryAfterSeconds(headers));
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertNull(ApiErrorMapper.retryAfterSeconds(headers));
+    }
+
+    private static RateLimitProperties properties(Duration maxWait, Map<String, RateLimitProperties.Limit> endpoints) {
+        return new RateLimitProperties(true, 1000, 100, maxWait, Duration.ofMillis(200), endpoints);
+    }
+}
@@ -0,0 +1,94 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.config.RetryProperties;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.GameNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ApiRetryPolicyTest {
+
+    private static final String BASE_URL = "http://dragons.test";
+
+    private ApiRetryPolicy retryPolicy;
+    private MockRestServiceServer server;
+    private DragonsApiClientImpl apiClient;
+
+    @BeforeEach
+    void setUp() {
+        retryPolicy = new ApiRetryPolicy(new RetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(5), 2.0, 0.5,
+                RetryProperties.Hedge.disabled()));
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.createServer(restTemplate);
+        apiClient = new DragonsApiClientImpl(restTemplate, new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)),
+                BASE_URL, ApiCallMetrics.disabled(), ApiRateLimiter.unlimited(), retryPolicy, HedgedRequestExecutor.disabled(),
+                ApiCircuitBreakers.disabled());
+    }
+
+    @Test
+    void testTransientGetFailuresAreRetried() {
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(request -> {
+            throw new ResourceAccessException("Connection reset");
+        });
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        server.expect(requestTo(BASE_URL + "/g1/messages")).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        assertEquals(0, apiClient.getAllMissions("g1").size());
+        assertEquals(2, retryPolicy.retries(Operation.GET_MISSIONS));
+        server.verify();
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        server.expect(times(3), requestTo(BASE_URL + "/g1/shop"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThrows(ApiResponseException.class, () -> apiClient.getShopItems("g1"));
+        server.verify();
+    }
+
+    @Test
+    void testClientErrorsAndPostsAreNotRetried() {
+        server.expect(once(), requestTo(BASE_URL + "/g1/messages")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(once(), requestTo(BASE_URL + "/g1/solve/ad1")).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThrows(GameNotFoundException.class, () -> apiClient.getAllMissions("g1"));
+        assertThrows(ApiResponseException.class, () -> apiClient.solveMission("g1", "ad1"));
+        server.verify();
+    }
+
+    @Test
+    void testBackoffGrowsWithJitterAndIsCapped() {
+        ApiRetryPolicy policy = new ApiRetryPolicy(new RetryProperties(5, Duration.ofMillis(100), Duration.ofMillis(300),
+                2.0, 0.5, RetryProperties.Hedge.disabled()));
+
+        for (int i = 0; i < 100; i++) {
+            long first = policy.backoffNanos(1);
+            long third = policy.backoffNanos(3);
+            assertTrue(first >= Duration.ofMillis(50).toNanos() && first <= Duration.ofMillis(100).toNanos());
+            assertTrue(third >= Duration.ofMillis(150).toNanos() && third <= Duration.ofMillis(300).toNanos());
+        }
+        assertTrue(ApiRetryPolicy.isTransient(new ApiConnectionException("x", "Connection failed", null)));
+        assertFalse(ApiRetryPolicy.isTransient(new ApiResponseException(429, "Too many", null)));
+    }
+}
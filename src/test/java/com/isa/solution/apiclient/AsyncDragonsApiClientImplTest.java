@@ -0,0 +1,126 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.exception.InsufficientResourcesException;
+import com.isa.solution.exception.InvalidGameStateException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.ShopItem;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncDragonsApiClientImplTest {
+
+    private HttpServer server;
+    private AsyncDragonsApiClientImpl apiClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        respond("/game/start", 200, "{\"gameId\":\"game1\",\"lives\":3,\"gold\":0,\"level\":0,\"score\":0,\"highScore\":0,\"turn\":0}");
+        respond("/game1/messages", 200, "[{\"adId\":\"ad1\",\"message\":\"Help\",\"reward\":50,\"expiresIn\":5,\"encrypted\":null,\"probability\":\"Piece of cake\"}]");
+        respond("/game1/shop", 200, "[{\"id\":\"hpot\",\"name\":\"Healing potion\",\"cost\":50}]");
+        respond("/game1/solve/gone", 404, "{\"error\":\"No ad by this ID exists\"}");
+        respond("/game1/solve/busy", 400, "{\"error\":\"Bad request\"}");
+        respond("/game1/shop/buy/hpot", 400, "{\"error\":\"Not enough gold\"}");
+        respond("/unknown/messages", 404, "{\"error\":\"No game by this ID exists\"}");
+        respond("/broken/messages", 500, "{\"error\":\"Internal\"}");
+        server.start();
+
+        apiClient = new AsyncDragonsApiClientImpl(HttpClient.newHttpClient(), Duration.ofSeconds(5),
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testStartGame() {
+        Game game = apiClient.startGame().join();
+
+        assertEquals("game1", game.gameId());
+        assertEquals(3, game.lives());
+    }
+
+    @Test
+    void testPipelinedMissionsAndShop() {
+        CompletableFuture<List<Message>> missions = apiClient.getAllMissions("game1");
+        CompletableFuture<List<ShopItem>> shop = apiClient.getShopItems("game1");
+
+        int total = missions.thenCombine(shop, (m, s) -> m.size() + s.size()).join();
+
+        assertEquals(2, total);
+        assertEquals("ad1", missions.join().get(0).adId());
+    }
+
+    @Test
+    void testErrorMappingMatchesSynchronousClient() {
+        assertFailsWith(MissionNotFoundException.class, apiClient.solveMission("game1", "gone"));
+        assertFailsWith(InvalidGameStateException.class, apiClient.solveMission("game1", "busy"));
+        assertFailsWith(InsufficientResourcesException.class, apiClient.purchaseItem("game1", "hpot"));
+        assertFailsWith(GameNotFoundException.class, apiClient.getAllMissions("unknown"));
+
+        ApiResponseException e = assertFailsWith(ApiResponseException.class, apiClient.getAllMissions("broken"));
+        assertEquals(500, e.getStatusCode());
+    }
+
+    @Test
+    void testInvalidIdFailsFuture() {
+        assertFailsWith(InvalidRequestException.class, apiClient.getAllMissions(null));
+        assertFailsWith(InvalidRequestException.class, apiClient.solveMission("game1", ""));
+        assertFailsWith(InvalidRequestException.class, apiClient.purchaseItem("game1", " "));
+    }
+
+    @Test
+    void testConnectionFailure() {
+        int port = server.getAddress().getPort();
+        server.stop(0);
+
+        AsyncDragonsApiClientImpl offline = new AsyncDragonsApiClientImpl(HttpClient.newHttpClient(), Duration.ofSeconds(5),
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), "http://127.0.0.1:" + port);
+
+        assertFailsWith(ApiConnectionException.class, offline.startGame());
+    }
+
+    private <T extends Throwable> T assertFailsWith(Class<T> type, CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        return assertInstanceOf(type, e.getCause());
+    }
+
+    private void respond(String path, int status, String json) {
+        server.createContext(path, exchange -> {
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
@@ -1,6 +1,7 @@
 package com.isa.solution.apiclient;
 
 import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.GameNotFoundException;
 import com.isa.solution.exception.InvalidRequestException;
 import com.isa.solution.model.Game;
 import com.isa.solution.model.Message;
@@ -141,4 +142,44 @@ class DragonsApiClientImplTest {
         assertThrows(InvalidRequestException.class, () -> apiClient.getShopItems("  "));
         assertThrows(InvalidRequestException.class, () -> apiClient.purchaseItem(null, "item1"));
     }
+
+    @Test
+    void testGetAllMissionsLeadingWhitespace() {
+        String gameId = "game1";
+        String responseJson = "\n\t [{\"adId\":\"ad1\",\"message\":\"Mission 1\",\"probability\":\"Sure Thing\",\"expiresIn\":3,\"reward\":20}]";
+        mockServer.expect(requestTo(BASE_URL + "/" + gameId + "/messages"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
+
+        List<Message> result = apiClient.getAllMissions(gameId);
+
+        assertEquals(1, result.size());
+        assertEquals(20, result.get(0).reward());
+        mockServer.verify();
+    }
+
+    @Test
+    void testGetAllMissionsHtmlResponse() {
+        String gameId = "game1";
+        mockServer.expect(requestTo(BASE_URL + "/" + gameId + "/messages"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess("  <!DOCTYPE html><html><body>Maintenance</body></html>", MediaType.TEXT_HTML));
+
+        ApiResponseException e = assertThrows(ApiResponseException.class, () -> apiClient.getAllMissions(gameId));
+
+        assertEquals(400, e.getStatusCode());
+        assertTrue(e.getResponseBody().contains("Maintenance"));
+        mockServer.verify();
+    }
+
+    @Test
+    void testGetShopItemsMalformedJson() {
+        String gameId = "game1";
+        mockServer.expect(requestTo(BASE_URL + "/" + gameId + "/shop"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess("[{\"id\":\"hpot\",", MediaType.APPLICATION_JSON));
+
+        assertThrows(GameNotFoundException.class, () -> apiClient.getShopItems(gameId));
+        mockServer.verify();
+    }
 }
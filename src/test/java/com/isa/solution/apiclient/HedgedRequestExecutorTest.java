@@ -0,0 +1,133 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.config.RateLimitProperties;
+import com.isa.solution.config.RetryProperties;
+import com.isa.solution.exception.ApiConnectionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class HedgedRequestExecutorTest {
+
+    private final HedgedRequestExecutor hedging = new HedgedRequestExecutor(new RetryProperties(1, Duration.ZERO,
+            Duration.ZERO, 1.0, 0, new RetryProperties.Hedge(true, 95, Duration.ofMillis(10), Duration.ofMillis(50))));
+
+    @AfterEach
+    void tearDown() {
+        hedging.destroy();
+    }
+
+    @Test
+    void testFastCallIsNotHedged() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("board", hedging.execute(Operation.GET_MISSIONS, () -> {
+            calls.incrementAndGet();
+            return "board";
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0, hedging.hedgesSent());
+    }
+
+    @Test
+    void testSlowCallIsHedgedAndFasterResponseWins() {
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String result = hedging.execute(Operation.GET_MISSIONS, () -> {
+            if (calls.getAndIncrement() == 0) {
+                sleep(2000);
+                return "slow";
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(1, hedging.hedgesSent());
+        assertEquals(1, hedging.hedgesWon());
+    }
+
+    @Test
+    void testWaitForRateLimitPermitIsNotHedged() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(ExpectedCount.times(2), requestTo("http://dragons/game1/messages"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        // One board every 200ms, far longer than the 50ms hedge delay.
+        ApiRateLimiter rateLimiter = new ApiRateLimiter(new RateLimitProperties(true, 5, 1, Duration.ofSeconds(5),
+                Duration.ofSeconds(1), Map.of()));
+        DragonsApiClientImpl client = new DragonsApiClientImpl(restTemplate, new ModelCodecRegistry(new ObjectMapper()),
+                "http://dragons", ApiCallMetrics.disabled(), rateLimiter, ApiRetryPolicy.disabled(), hedging,
+                ApiCircuitBreakers.disabled());
+
+        client.getAllMissions("game1");
+        client.getAllMissions("game1");
+
+        server.verify();
+        assertEquals(0, hedging.hedgesSent());
+    }
+
+    @Test
+    void testFailedHedgeFallsBackToPrimary() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedging.execute(Operation.GET_SHOP_ITEMS, () -> {
+            if (calls.getAndIncrement() == 0) {
+                sleep(200);
+                return "primary";
+            }
+            throw new ApiConnectionException("shop", "Connection failed", null);
+        });
+
+        assertEquals("primary", result);
+        assertEquals(0, hedging.hedgesWon());
+    }
+
+    @Test
+    void testBothFailingPropagatesTheError() {
+        assertThrows(ApiConnectionException.class, () -> hedging.execute(Operation.GET_SHOP_ITEMS, () -> {
+            sleep(100);
+            throw new ApiConnectionException("shop", "Connection failed", null);
+        }));
+    }
+
+    @Test
+    void testDelayFollowsObservedPercentile() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            hedging.execute(Operation.GET_MISSIONS, () -> {
+                sleep(15);
+                return "board";
+            });
+        }
+        Thread.sleep(1100);
+
+        long delay = hedging.hedgeDelayNanos(Operation.GET_MISSIONS);
+        assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(15) && delay < TimeUnit.MILLISECONDS.toNanos(50), "delay " + delay);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.isa.solution.apiclient;
+
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelCodecRegistryTest {
+
+    private final ModelCodecRegistry registry = new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false));
+
+    @Test
+    void testRegistersEveryModelRecord() {
+        for (Class<?> model : List.of(Game.class, Message.class, ShopItem.class, SolveResponse.class,
+                PurchaseResponse.class, GameResult.class, GamePlayResponse.class)) {
+            assertNotNull(registry.reader(model));
+            assertNotNull(registry.listReader(model));
+            assertNotNull(registry.writer(model));
+        }
+    }
+
+    @Test
+    void testReadersAreReused() {
+        assertSame(registry.reader(Game.class), registry.reader(Game.class));
+        assertSame(registry.listReader(Message.class), registry.listReader(Message.class));
+    }
+
+    @Test
+    void testListReader() throws Exception {
+        List<ShopItem> items = registry.listReader(ShopItem.class)
+                .readValue("[{\"id\":\"hpot\",\"name\":\"Healing potion\",\"cost\":50}]");
+
+        assertEquals(List.of(new ShopItem("hpot", "Healing potion", 50)), items);
+    }
+
+    @Test
+    void testUnknownTypeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> registry.reader(String.class));
+    }
+
+    @Test
+    void testBlackbirdModeRoundTrip() throws Exception {
+        ModelCodecRegistry blackbird = new ModelCodecRegistry(new DragonsApiConfig().objectMapper(true));
+        SolveResponse response = new SolveResponse(true, 3, 150, 100, 100, 2, "Success");
+
+        String json = blackbird.writer(SolveResponse.class).writeValueAsString(response);
+        SolveResponse read = blackbird.reader(SolveResponse.class).readValue(json);
+
+        assertEquals(response, read);
+        assertTrue(json.contains("\"highScore\":100"));
+    }
+
+    @Test
+    void testMissionProbabilityDecodedOnRead() throws Exception {
+        for (boolean blackbird : List.of(false, true)) {
+            ModelCodecRegistry codecs = new ModelCodecRegistry(new DragonsApiConfig().objectMapper(blackbird));
+
+            List<Message> missions = codecs.listReader(Message.class).readValue("["
+                    + "{\"adId\":\"ad1\",\"message\":\"m\",\"probability\":\"Walk in the park\",\"expiresIn\":3,\"reward\":20},"
+                    + "{\"adId\":\"ad2\",\"message\":\"m\",\"probability\":\"V2Fsaw==\",\"expiresIn\":3,\"reward\":20,\"encrypted\":1}]");
+            String json = codecs.writer(Message.class).writeValueAsString(missions.get(0));
+
+            assertEquals(Probability.WALK_IN_THE_PARK, missions.get(0).level());
+            assertEquals(Probability.UNKNOWN, missions.get(1).level());
+            assertTrue(!json.contains("level"), json);
+            assertEquals(missions.get(0), codecs.reader(Message.class).readValue(json));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.isa.solution.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class DragonsHttpTransportTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testApacheTransport_PooledAndInstrumented() throws Exception {
+        DragonsHttpTransport transport = DragonsHttpTransport.create(properties(HttpTransportProperties.Type.APACHE, false), meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(transport.requestFactory());
+
+        String body = restTemplate.getForObject(baseUrl() + "/ping", String.class);
+
+        assertEquals("pong", body);
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, transport.requestFactory());
+        assertEquals(20, meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(10, meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value());
+        assertEquals(1, meterRegistry.get("dragons.api.http.connection.acquire").timer().count());
+        transport.destroy();
+    }
+
+    @Test
+    void testJdkTransport() {
+        DragonsHttpTransport transport = DragonsHttpTransport.create(properties(HttpTransportProperties.Type.JDK, false), meterRegistry);
+
+        assertInstanceOf(JdkClientHttpRequestFactory.class, transport.requestFactory());
+        assertEquals("pong", new RestTemplate(transport.requestFactory()).getForObject(baseUrl() + "/ping", String.class));
+    }
+
+    @Test
+    void testSimpleTransport() {
+        DragonsHttpTransport transport = DragonsHttpTransport.create(properties(HttpTransportProperties.Type.SIMPLE, false), meterRegistry);
+
+        assertInstanceOf(SimpleClientHttpRequestFactory.class, transport.requestFactory());
+    }
+
+    @Test
+    void testBufferingOnlyInDiagnosticMode() throws Exception {
+        DragonsHttpTransport transport = DragonsHttpTransport.create(properties(HttpTransportProperties.Type.APACHE, true), meterRegistry);
+
+        assertInstanceOf(BufferingClientHttpRequestFactory.class, transport.requestFactory());
+        transport.destroy();
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private HttpTransportProperties properties(HttpTransportProperties.Type type, boolean buffer) {
+        return new HttpTransportProperties(type, Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(1),
+                20, 10, Duration.ofSeconds(30), Duration.ofSeconds(60), false, buffer);
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -87,7 +88,7 @@ class GameControllerTest {
         lenient().when(apiClient.getShopItems(anyString())).thenReturn(List.of());
 
         // When
-        ResponseEntity<GamePlayResponse> result = gameController.playGame();
+        ResponseEntity<GamePlayResponse> result = gameController.playGame(1, 1, "all", 100);
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -108,7 +109,7 @@ class GameControllerTest {
         lenient().when(apiClient.getShopItems(anyString())).thenReturn(List.of());
 
         // When
-        ResponseEntity<GamePlayResponse> result = gameController.playGame();
+        ResponseEntity<GamePlayResponse> result = gameController.playGame(1, 1, "all", 100);
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -132,4 +133,79 @@ class GameControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void testPlayGame_BatchParameters() throws Exception {
+        // Given
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(
+                new Game("game1", 3, 100, 1, 0, 1, 0),
+                new Game("game2", 3, 100, 1, 0, 1, 0));
+        when(apiClient.getAllMissions(anyString())).thenAnswer(invocation -> new ArrayList<>(List.of(mission)));
+        when(apiClient.solveMission(anyString(), anyString())).thenReturn(solveResponse);
+
+        // When & Then
+        mockMvc.perform(post("/api/game/play")
+                        .param("games", "2")
+                        .param("parallelism", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalGamesPlayed").value(2))
+                .andExpect(jsonPath("$.successfulGames").value(2))
+                .andExpect(jsonPath("$.gameResults.length()").value(2));
+
+        verify(apiClient, times(2)).startGame();
+    }
+
+    @Test
+    void testPlayGame_InvalidBatchParameters() throws Exception {
+        mockMvc.perform(post("/api/game/play")
+                        .param("games", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void testPlayGame_SummaryWithoutResults() throws Exception {
+        // Given
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(
+                new Game("game1", 3, 100, 1, 0, 1, 0),
+                new Game("game2", 3, 100, 1, 0, 1, 0),
+                new Game("game3", 3, 100, 1, 0, 1, 0));
+        when(apiClient.getAllMissions(anyString())).thenAnswer(invocation -> new ArrayList<>(List.of(mission)));
+        when(apiClient.solveMission(anyString(), anyString())).thenReturn(solveResponse);
+
+        // When & Then
+        mockMvc.perform(post("/api/game/play")
+                        .param("games", "3")
+                        .param("parallelism", "2")
+                        .param("results", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalGamesPlayed").value(3))
+                .andExpect(jsonPath("$.gameResults.length()").value(0))
+                .andExpect(jsonPath("$.scoreDistribution.count").value(3))
+                .andExpect(jsonPath("$.scoreDistribution.max").value(1000))
+                .andExpect(jsonPath("$.turnDistribution.p50").value(2));
+    }
+
+    @Test
+    void testPlayGame_InvalidResultsParameter() throws Exception {
+        mockMvc.perform(post("/api/game/play")
+                        .param("results", "some"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void testPlayGame_SampleSizeAboveLimit() throws Exception {
+        mockMvc.perform(post("/api/game/play")
+                        .param("results", "sample")
+                        .param("sampleSize", "2000000000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
 }
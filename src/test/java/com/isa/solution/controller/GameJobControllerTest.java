@@ -0,0 +1,101 @@
+package com.isa.solution.controller;
+
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.JobCapacityExceededException;
+import com.isa.solution.model.GameJobStatus;
+import com.isa.solution.service.GameJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GameJobControllerTest {
+
+    @Mock
+    private GameJobService gameJobService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GameJobController(gameJobService)).build();
+    }
+
+    @Test
+    void testSubmitJob_ReturnsAcceptedWithLocation() throws Exception {
+        when(gameJobService.submit(100, 8)).thenReturn(jobStatus("job1", "QUEUED", 0));
+
+        mockMvc.perform(post("/api/game/jobs").param("games", "100").param("parallelism", "8"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/game/jobs/job1"))
+                .andExpect(jsonPath("$.jobId").value("job1"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    @Test
+    void testGetJob_ReturnsProgress() throws Exception {
+        when(gameJobService.status("job1")).thenReturn(Optional.of(jobStatus("job1", "RUNNING", 40)));
+
+        mockMvc.perform(get("/api/game/jobs/job1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedGames").value(40))
+                .andExpect(jsonPath("$.totalGames").value(100));
+    }
+
+    @Test
+    void testGetJob_UnknownJob() throws Exception {
+        when(gameJobService.status("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/game/jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCancelJob() throws Exception {
+        when(gameJobService.cancel("job1")).thenReturn(Optional.of(jobStatus("job1", "CANCELLED", 40)));
+
+        mockMvc.perform(delete("/api/game/jobs/job1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CANCELLED"));
+    }
+
+    @Test
+    void testSubmitJob_InvalidRequest() throws Exception {
+        when(gameJobService.submit(0, 1))
+                .thenThrow(new InvalidRequestException("games", 0, "must be between 1 and 1000"));
+
+        mockMvc.perform(post("/api/game/jobs").param("games", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void testSubmitJob_QueueFull() throws Exception {
+        when(gameJobService.submit(1, 1)).thenThrow(new JobCapacityExceededException(100));
+
+        mockMvc.perform(post("/api/game/jobs"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errorCode").value("JOB_CAPACITY_EXCEEDED"));
+    }
+
+    private static GameJobStatus jobStatus(String jobId, String state, int completed) {
+        return new GameJobStatus(jobId, state, 100, 8, completed, completed, 0, completed == 0 ? 0 : 1000,
+                completed == 0 ? 0 : 1000, completed == 0 ? 0 : 1000, Instant.EPOCH, null, null, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.isa.solution.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.StreamCapacityExceededException;
+import com.isa.solution.model.GameEvent;
+import com.isa.solution.model.GameResult;
+import com.isa.solution.service.GameEventStream;
+import com.isa.solution.service.GameStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class GameStreamControllerTest {
+
+    @Mock
+    private GameStreamService gameStreamService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GameStreamController(gameStreamService, new ObjectMapper())).build();
+    }
+
+    @Test
+    void testStreamGames_WritesOneEventPerLine() throws Exception {
+        GameEventStream stream = mock(GameEventStream.class);
+        when(stream.next()).thenReturn(
+                new GameEvent.MissionChosen("game1", 1, "ad1", "Sure Thing", 50),
+                new GameEvent.GameFinished(new GameResult("game1", 1000, 30, true, null)),
+                null);
+        when(gameStreamService.open(2, 1, true)).thenReturn(stream);
+
+        MvcResult result = mockMvc.perform(post("/api/game/stream")
+                        .param("games", "2")
+                        .param("turns", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"type\":\"MISSION_CHOSEN\",\"gameId\":\"game1\",\"turn\":1,\"adId\":\"ad1\",\"probability\":\"Sure Thing\",\"reward\":50}\n"
+                                + "{\"type\":\"GAME_FINISHED\",\"result\":{\"gameId\":\"game1\",\"finalScore\":1000,\"turnsPlayed\":30,"
+                                + "\"success\":true,\"failureReason\":null,\"prefetchedTurns\":0,\"savedLatencyMillis\":0,\"skipsAvoided\":0}}\n"));
+        verify(stream).close();
+    }
+
+    @Test
+    void testStreamGames_BodyThatNeverRunsStillClosesTheStream() throws Exception {
+        GameEventStream stream = mock(GameEventStream.class);
+        when(gameStreamService.open(1, 1, false)).thenReturn(stream);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+
+        StreamingResponseBody body = new GameStreamController(gameStreamService, new ObjectMapper())
+                .streamGames(1, 1, false, webRequest).getBody();
+        // A saturated MVC task pool: the body is queued but never gets a thread.
+        AsyncTaskExecutor neverRuns = task -> { };
+        asyncManager.startCallableProcessing(new WebAsyncTask<>(1000L, neverRuns, () -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        }));
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        verify(stream, never()).next();
+        verify(stream).close();
+    }
+
+    @Test
+    void testStreamGames_InvalidRequest() throws Exception {
+        when(gameStreamService.open(0, 1, false))
+                .thenThrow(new InvalidRequestException("games", 0, "must be between 1 and 1000"));
+
+        mockMvc.perform(post("/api/game/stream").param("games", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void testStreamGames_TooManyStreams() throws Exception {
+        when(gameStreamService.open(1, 1, false)).thenThrow(new StreamCapacityExceededException(8));
+
+        mockMvc.perform(post("/api/game/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value("STREAM_CAPACITY_EXCEEDED"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.apiclient.DragonsApiClientImpl;
+import com.isa.solution.apiclient.ModelCodecRegistry;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.MissionSelectionService;
+import com.isa.solution.service.ShopService;
+import com.isa.solution.simulator.DragonsSimulator;
+import com.isa.solution.simulator.SimulatorSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestRunnerTest {
+
+    private DragonsSimulator simulator;
+    private ApiLatencyRecorder recorder;
+    private GamePlayService gamePlayService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = DragonsSimulator.start(SimulatorSettings.deterministic(10), 0);
+        recorder = new ApiLatencyRecorder();
+        DragonsApiClient apiClient = new RecordingDragonsApiClient(new DragonsApiClientImpl(new RestTemplate(),
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), simulator.baseUrl()), recorder);
+        gamePlayService = new GamePlayService(apiClient, new MissionSelectionService(), new ShopService(apiClient));
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void testPlaysAllGamesInBatches() {
+        LoadTestReport report = new LoadTestRunner(gamePlayService, recorder, properties(7, 3), 3).execute();
+
+        assertEquals(7, report.games());
+        assertEquals(7, report.successfulGames());
+        assertEquals(7, simulator.startedGames());
+        assertEquals(7, recorder.histogram(Operation.START_GAME).getTotalCount());
+        assertEquals(70, recorder.histogram(Operation.SOLVE_MISSION).getTotalCount());
+        assertEquals(simulator.requests(), report.apiCalls());
+        assertTrue(report.callsPerGame() >= 21);
+        assertTrue(report.gamesPerSecond() > 0);
+    }
+
+    @Test
+    void testRecorderIsResetBetweenRuns() {
+        LoadTestRunner runner = new LoadTestRunner(gamePlayService, recorder, properties(2, 2), 10);
+
+        runner.execute();
+        LoadTestReport second = runner.execute();
+
+        assertEquals(2, recorder.histogram(Operation.START_GAME).getTotalCount());
+        assertEquals(second.apiCalls(), recorder.totalCalls());
+    }
+
+    @Test
+    void testRejectsEmptyRun() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadTestRunner(gamePlayService, recorder, properties(0, 1), 10));
+    }
+
+    private static LoadTestProperties properties(int games, int concurrency) {
+        return new LoadTestProperties(games, concurrency, true, 42, Duration.ZERO, Duration.ZERO, 0, 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.isa.solution.loadtest;
+
+import com.isa.solution.apiclient.ApiCallMetrics.Operation;
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.exception.ApiConnectionException;
+import com.isa.solution.model.Game;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecordingDragonsApiClientTest {
+
+    private final DragonsApiClient delegate = mock(DragonsApiClient.class);
+    private final ApiLatencyRecorder recorder = new ApiLatencyRecorder();
+    private final RecordingDragonsApiClient client = new RecordingDragonsApiClient(delegate, recorder);
+
+    @Test
+    void testRecordsEveryCallPerOperation() {
+        when(delegate.startGame()).thenReturn(new Game("g1", 3, 0, 0, 0, 0, 0));
+        when(delegate.getAllMissions("g1")).thenReturn(List.of());
+
+        client.startGame();
+        client.getAllMissions("g1");
+        client.getAllMissions("g1");
+
+        assertEquals(1, recorder.histogram(Operation.START_GAME).getTotalCount());
+        assertEquals(2, recorder.histogram(Operation.GET_MISSIONS).getTotalCount());
+        assertEquals(0, recorder.histogram(Operation.SOLVE_MISSION).getTotalCount());
+        assertEquals(3, recorder.totalCalls());
+    }
+
+    @Test
+    void testFailedCallIsTimedAndCounted() {
+        when(delegate.getShopItems("g1")).thenThrow(new ApiConnectionException("shop", "Connection failed", null));
+
+        assertThrows(ApiConnectionException.class, () -> client.getShopItems("g1"));
+
+        assertEquals(1, recorder.histogram(Operation.GET_SHOP_ITEMS).getTotalCount());
+        assertEquals(1, recorder.errors(Operation.GET_SHOP_ITEMS));
+    }
+
+    @Test
+    void testReportPercentilesAndCapacity() {
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(Operation.SOLVE_MISSION, Duration.ofMillis(i).toNanos(), i == 100);
+        }
+
+        LoadTestReport report = LoadTestReport.of(10, 9, 1100, Duration.ofSeconds(2), recorder, 36_000);
+        LoadTestReport.OperationLatency solve = report.operations().get(0);
+
+        assertEquals(1, report.operations().size());
+        assertEquals(Operation.SOLVE_MISSION, solve.operation());
+        assertEquals(1, solve.errors());
+        assertEquals(50, solve.p50(), 0.1);
+        assertEquals(99, solve.p99(), 0.1);
+        assertEquals(100, solve.max(), 0.1);
+        assertEquals(5.0, report.gamesPerSecond(), 1e-9);
+        assertEquals(10.0, report.callsPerGame(), 1e-9);
+        assertEquals(2, report.jvmsForTarget());
+        assertTrue(report.format().contains("SOLVE_MISSION"));
+    }
+}
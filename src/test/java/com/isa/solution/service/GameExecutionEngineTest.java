@@ -0,0 +1,94 @@
+package com.isa.solution.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameExecutionEngineTest {
+
+    @Test
+    void testEffectiveParallelism_PlatformCappedByPoolSize() {
+        GameExecutionEngine engine = new GameExecutionEngine(GameExecutionEngine.Mode.PLATFORM, 4, 100);
+
+        assertEquals(4, engine.effectiveParallelism(50, 50));
+        assertEquals(3, engine.effectiveParallelism(50, 3));
+        assertEquals(2, engine.effectiveParallelism(2, 50));
+    }
+
+    @Test
+    void testEffectiveParallelism_VirtualCappedByGlobalLimit() {
+        GameExecutionEngine engine = new GameExecutionEngine(GameExecutionEngine.Mode.VIRTUAL, 4, 100);
+
+        assertEquals(100, engine.effectiveParallelism(1000, 1000));
+        assertEquals(10, engine.effectiveParallelism(10, 1000));
+    }
+
+    @Test
+    void testRepeat_SingleGameRunsOnCallerThread() throws Exception {
+        GameExecutionEngine engine = new GameExecutionEngine();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        engine.repeat(1, () -> threads.add(Thread.currentThread()), e -> { }, 1);
+
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testRepeat_VirtualModeRunsGamesOnVirtualThreads() throws Exception {
+        GameExecutionEngine engine = new GameExecutionEngine(GameExecutionEngine.Mode.VIRTUAL, 1, 100);
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+
+        engine.repeat(3, () -> virtual.add(Thread.currentThread().isVirtual()), e -> { }, 3);
+
+        assertEquals(List.of(true, true, true), virtual);
+    }
+
+    @Test
+    void testFork_RunsSideCallOffTheGameThread() {
+        GameExecutionEngine engine = new GameExecutionEngine();
+
+        Thread sideThread = engine.fork(Thread::currentThread).join();
+
+        assertTrue(sideThread != Thread.currentThread());
+        assertTrue(sideThread.getName().startsWith("game-io-"));
+    }
+
+    @Test
+    void testDestroy_StopsSideCalls() {
+        GameExecutionEngine engine = new GameExecutionEngine();
+
+        engine.destroy();
+
+        assertThrows(RejectedExecutionException.class, () -> engine.fork(Thread::currentThread));
+    }
+
+    @Test
+    void testRepeat_RunsEveryRunWithinCaps() throws Exception {
+        GameExecutionEngine engine = new GameExecutionEngine(GameExecutionEngine.Mode.PLATFORM, 8, 3);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+
+        engine.repeat(50, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            runs.incrementAndGet();
+            running.decrementAndGet();
+            if (runs.get() == 10) {
+                throw new IllegalStateException("one failed run");
+            }
+        }, failures::add, 8);
+
+        assertEquals(50, runs.get());
+        assertEquals(1, failures.size());
+        assertEquals("one failed run", failures.get(0).getMessage());
+        assertTrue(maxRunning.get() <= 3);
+    }
+}
@@ -0,0 +1,159 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.GamePlayException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.JobCapacityExceededException;
+import com.isa.solution.model.GameJobStatus;
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.model.GameResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameJobServiceTest {
+
+    @Mock
+    private GamePlayService gamePlayService;
+
+    private GameJobService gameJobService;
+
+    @AfterEach
+    void tearDown() {
+        if (gameJobService != null) {
+            gameJobService.destroy();
+        }
+    }
+
+    @Test
+    void testSubmit_AggregatesResultsAsGamesFinish() throws Exception {
+        gameJobService = new GameJobService(gamePlayService, 2, 10, Duration.ofHours(1));
+        when(gamePlayService.playGames(anyInt(), anyInt(), any())).thenAnswer(playing(
+                new GameResult("g1", 1200, 40, true, null),
+                new GameResult("g2", 300, 25, false, "Out of lives")));
+
+        GameJobStatus submitted = gameJobService.submit(2, 2);
+        GameJobStatus finished = awaitStatus(submitted.jobId(), status -> status.finishedAt() != null);
+
+        assertEquals("COMPLETED", finished.state());
+        assertEquals(2, finished.completedGames());
+        assertEquals(1, finished.successfulGames());
+        assertEquals(1, finished.failedGames());
+        assertEquals(750.0, finished.averageScore());
+        assertEquals(1200, finished.highestScore());
+        assertEquals(300, finished.lowestScore());
+        assertNull(finished.error());
+    }
+
+    @Test
+    void testCancel_InterruptsRunningJob() throws Exception {
+        gameJobService = new GameJobService(gamePlayService, 1, 10, Duration.ofHours(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(gamePlayService.playGames(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            GameResultAggregator results = invocation.getArgument(2);
+            results.add(new GameResult("g1", 500, 10, false, "Out of lives"));
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+                return null;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new GamePlayException("Interrupted", e);
+            }
+        });
+
+        GameJobStatus submitted = gameJobService.submit(5, 1);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        GameJobStatus cancelled = gameJobService.cancel(submitted.jobId()).orElseThrow();
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals("CANCELLED", cancelled.state());
+        assertEquals(1, cancelled.completedGames());
+        assertEquals("CANCELLED", gameJobService.status(submitted.jobId()).orElseThrow().state());
+    }
+
+    @Test
+    void testSubmit_RejectsWhenQueueIsFull() throws Exception {
+        gameJobService = new GameJobService(gamePlayService, 1, 1, Duration.ofHours(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gamePlayService.playGames(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+
+        gameJobService.submit(1, 1);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        GameJobStatus queued = gameJobService.submit(1, 1);
+
+        assertEquals("QUEUED", queued.state());
+        assertThrows(JobCapacityExceededException.class, () -> gameJobService.submit(1, 1));
+
+        GameJobStatus cancelled = gameJobService.cancel(queued.jobId()).orElseThrow();
+        assertEquals("CANCELLED", cancelled.state());
+        gameJobService.submit(1, 1);
+        release.countDown();
+    }
+
+    @Test
+    void testSubmit_InvalidBatchIsRejectedBeforeQueueing() {
+        gameJobService = new GameJobService(gamePlayService, 1, 10, Duration.ofHours(1));
+        doThrow(new InvalidRequestException("games", 0, "must be between 1 and 1000"))
+                .when(gamePlayService).validateBatch(0, 1);
+
+        assertThrows(InvalidRequestException.class, () -> gameJobService.submit(0, 1));
+        verify(gamePlayService, never()).playGames(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void testStatus_UnknownJob() {
+        gameJobService = new GameJobService(gamePlayService, 1, 10, Duration.ofHours(1));
+
+        assertTrue(gameJobService.status("missing").isEmpty());
+        assertTrue(gameJobService.cancel("missing").isEmpty());
+    }
+
+    private static Answer<GamePlayResponse> playing(GameResult... results) {
+        return invocation -> {
+            GameResultAggregator aggregator = invocation.getArgument(2);
+            for (GameResult result : results) {
+                aggregator.add(result);
+            }
+            return null;
+        };
+    }
+
+    private GameJobStatus awaitStatus(String jobId, Predicate<GameJobStatus> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            GameJobStatus status = gameJobService.status(jobId).orElseThrow();
+            if (condition.test(status)) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Job " + jobId + " did not reach the expected state");
+    }
+}
@@ -0,0 +1,33 @@
+package com.isa.solution.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameLogSamplerTest {
+
+    @Test
+    void testTracesOneGameInN() {
+        GameLogSampler sampler = new GameLogSampler(10);
+
+        assertEquals(10, traced(sampler, 100));
+    }
+
+    @Test
+    void testOneTracesEveryGameAndZeroNone() {
+        assertEquals(20, traced(new GameLogSampler(1), 20));
+        assertEquals(0, traced(new GameLogSampler(0), 20));
+    }
+
+    @Test
+    void testRejectsNegativeRate() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLogSampler(-1));
+    }
+
+    private static long traced(GameLogSampler sampler, int games) {
+        return IntStream.range(0, games).filter(i -> sampler.traceNextGame()).count();
+    }
+}
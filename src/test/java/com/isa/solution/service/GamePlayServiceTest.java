@@ -1,23 +1,38 @@
 package com.isa.solution.service;
 
 import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.exception.ApiConnectionException;
 import com.isa.solution.exception.ApiResponseException;
 import com.isa.solution.exception.InvalidGameStateException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.exception.RateLimitExceededException;
 import com.isa.solution.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,4 +228,335 @@ class GamePlayServiceTest {
         assertNotNull(response.gameResults());
         assertEquals(1, response.gameResults().size());
     }
+
+    @Test
+    void testPlayGames_AggregatesConcurrentGames() {
+        // Given
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(
+                new Game("game1", 3, 100, 1, 0, 1, 0),
+                new Game("game2", 3, 100, 1, 0, 1, 0),
+                new Game("game3", 3, 100, 1, 0, 1, 0));
+        when(apiClient.getAllMissions(anyString())).thenAnswer(invocation -> new ArrayList<>(List.of(mission)));
+        when(apiClient.solveMission(anyString(), anyString())).thenReturn(solveResponse);
+
+        // When
+        GamePlayResponse response = gamePlayService.playGames(3, 2);
+
+        // Then
+        assertEquals(3, response.totalGamesPlayed());
+        assertEquals(3, response.successfulGames());
+        assertEquals(0, response.failedGames());
+        assertEquals(1000.0, response.averageScore());
+        assertEquals(1000, response.highestScore());
+        assertEquals(1000, response.lowestScore());
+        assertEquals(3, response.gameResults().size());
+        verify(apiClient, times(3)).startGame();
+    }
+
+    @Test
+    void testPlayGames_RejectsInvalidBatch() {
+        assertThrows(InvalidRequestException.class, () -> gamePlayService.playGames(0, 1));
+        assertThrows(InvalidRequestException.class, () -> gamePlayService.playGames(1, 0));
+        assertThrows(InvalidRequestException.class, () -> gamePlayService.playGames(1001, 1));
+    }
+
+    @Test
+    void testPlayGame_FailedShopFetchOnCachedBoardSkipsThePurchase() {
+        // Given
+        when(apiClient.startGame()).thenReturn(new Game("game1", 2, 100, 1, 0, 1, 0));
+        when(apiClient.getShopItems("game1")).thenThrow(new ApiConnectionException("GET /shop", "timeout", null));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null),
+                new Message("ad2", "Mission 2", "Sure Thing", 5, 40, null)));
+        when(apiClient.solveMission("game1", "ad1")).thenThrow(new MissionNotFoundException("game1", "ad1"));
+        when(apiClient.solveMission("game1", "ad2")).thenReturn(new SolveResponse(true, 2, 140, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then: the second turn reuses the board and fetches the shop on its own
+        assertTrue(response.gameResults().get(0).success());
+        verify(apiClient, times(1)).getAllMissions("game1");
+        verify(apiClient, times(2)).getShopItems("game1");
+        verify(apiClient, never()).purchaseItem(anyString(), anyString());
+    }
+
+    @Test
+    void testPlayGame_PrefetchesShopAndMissionsConcurrently() {
+        // Given
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        CountDownLatch shopInFlight = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        when(apiClient.startGame()).thenReturn(new Game("game1", 2, 100, 1, 0, 1, 0));
+        when(apiClient.getShopItems("game1")).thenAnswer(invocation -> {
+            shopInFlight.countDown();
+            return List.of(new ShopItem("hpot", "Healing Potion", 50));
+        });
+        when(apiClient.getAllMissions("game1")).thenAnswer(invocation -> {
+            overlapped.set(shopInFlight.await(5, TimeUnit.SECONDS));
+            return new ArrayList<>(List.of(mission));
+        });
+        when(apiClient.purchaseItem("game1", "hpot")).thenReturn(new PurchaseResponse(true, 3, 50, 1, 3));
+        when(apiClient.solveMission("game1", "ad1")).thenReturn(new SolveResponse(true, 3, 100, 1000, 1000, 4, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        GameResult result = response.gameResults().get(0);
+        assertTrue(overlapped.get());
+        assertTrue(result.success());
+        assertEquals(1, result.prefetchedTurns());
+        assertFalse(shopService.hasCachedShopItems("game1"));
+        verify(apiClient, times(1)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPlayGame_ReusesBoardUntilTurnIsPlayed() {
+        // Given
+        Message risky = new Message("ad1", "Mission 1", "Risky", 5, 50, null);
+        Message sure = new Message("ad2", "Mission 2", "Sure Thing", 5, 50, null);
+
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(risky, sure));
+        when(apiClient.solveMission("game1", "ad2"))
+                .thenThrow(new InvalidGameStateException("game1", "ad2", "Invalid state"))
+                .thenReturn(new SolveResponse(true, 3, 50, 500, 500, 2, "Success"))
+                .thenReturn(new SolveResponse(true, 3, 100, 1000, 1000, 3, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        assertEquals(1, response.successfulGames());
+        verify(apiClient, times(3)).solveMission("game1", "ad2");
+        verify(apiClient, times(2)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPlayGame_StaleBoardRefetchedAfterMissionNotFound() {
+        // Given
+        Message gone = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        Message fresh = new Message("ad2", "Mission 2", "Sure Thing", 5, 50, null);
+
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1"))
+                .thenReturn(List.of(gone))
+                .thenReturn(List.of(fresh));
+        when(apiClient.solveMission("game1", "ad1")).thenThrow(new MissionNotFoundException("game1", "ad1"));
+        when(apiClient.solveMission("game1", "ad2")).thenReturn(new SolveResponse(true, 3, 50, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        assertEquals(1, response.successfulGames());
+        verify(apiClient, times(2)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPlayGame_TriesNextCandidateWithoutRefetchAfterMissionNotFound() {
+        // Given
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 500, null),
+                new Message("ad2", "Mission 2", "Quite likely", 5, 100, null),
+                new Message("ad3", "Mission 3", "Suicide mission", 5, 900, null)));
+        when(apiClient.solveMission("game1", "ad1")).thenThrow(new MissionNotFoundException("game1", "ad1"));
+        when(apiClient.solveMission("game1", "ad2")).thenReturn(new SolveResponse(true, 3, 50, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        assertEquals(1, response.successfulGames());
+        verify(apiClient, times(1)).getAllMissions("game1");
+        verify(apiClient, never()).solveMission("game1", "ad3");
+    }
+
+    @Test
+    void testPlayGame_DecodesEncryptedMissions() {
+        // Given
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(
+                new Message("YWQx", "SGVscA==", "U3VyZSBUaGluZw==", 5, 50, 1),
+                new Message("ad2", "Mission 2", "Impossible", 5, 900, null)));
+        when(apiClient.solveMission("game1", "ad1")).thenReturn(new SolveResponse(true, 3, 50, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        GameResult result = response.gameResults().get(0);
+        assertTrue(result.success());
+        // Four skips before the fifth iteration would have forced a fallback.
+        assertEquals(4, result.skipsAvoided());
+    }
+
+    @Test
+    void testPlayGame_GivesUpWhenNoTurnCanBePlayed() {
+        // Given
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of());
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        GameResult result = response.gameResults().get(0);
+        assertEquals("game1", result.gameId());
+        assertFalse(result.success());
+        assertNotNull(result.failureReason());
+        verify(apiClient, times(1)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPlayGame_RecordsGameMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GamePlayService service = new GamePlayService(apiClient, missionSelectionService, shopService,
+                new GameExecutionEngine(), new GameMetrics(registry), 10, 1);
+        when(apiClient.startGame()).thenReturn(new Game("game1", 2, 100, 1, 0, 1, 0));
+        when(apiClient.getShopItems("game1")).thenReturn(List.of(new ShopItem("hpot", "Healing Potion", 50)));
+        when(apiClient.purchaseItem("game1", "hpot")).thenReturn(new PurchaseResponse(true, 3, 50, 1, 2));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null)));
+        when(apiClient.solveMission("game1", "ad1"))
+                .thenThrow(new ApiResponseException(500, "Failed to solve", null))
+                .thenReturn(new SolveResponse(false, 2, 40, 0, 0, 3, "Failed"))
+                .thenReturn(new SolveResponse(true, 2, 100, 1000, 1000, 4, "Success"));
+
+        // When
+        service.playGame();
+
+        // Then
+        assertEquals(1, registry.get("dragons.game.games").tag("result", "won").counter().count());
+        assertEquals(4, registry.get("dragons.game.turns").counter().count());
+        assertEquals(1, registry.get("dragons.game.solves").tag("result", "success").counter().count());
+        assertEquals(1, registry.get("dragons.game.solves").tag("result", "failure").counter().count());
+        assertEquals(1, registry.get("dragons.game.solves").tag("result", "error").counter().count());
+        assertEquals(1, registry.get("dragons.game.potions").counter().count());
+        assertEquals(0, registry.get("dragons.game.fallbacks").counter().count());
+    }
+
+    @Test
+    void testPlayGame_RetriesMissionAfterRateLimit() {
+        // Given
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 500, null),
+                new Message("ad2", "Mission 2", "Sure Thing", 5, 10, null)));
+        when(apiClient.solveMission("game1", "ad1"))
+                .thenThrow(new RateLimitExceededException(1))
+                .thenReturn(new SolveResponse(true, 3, 0, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = gamePlayService.playGame();
+
+        // Then
+        assertTrue(response.gameResults().get(0).success());
+        verify(apiClient, times(2)).solveMission("game1", "ad1");
+        verify(apiClient, times(0)).solveMission("game1", "ad2");
+        verify(apiClient, times(1)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPlayGame_WaitsOutRateLimitsWithoutGivingUp() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GamePlayService service = new GamePlayService(apiClient, missionSelectionService, shopService,
+                new GameExecutionEngine(), new GameMetrics(registry), 10, 1);
+        RateLimitExceededException throttled = new RateLimitExceededException("Client-side rate limit exceeded");
+        when(apiClient.startGame()).thenReturn(new Game("game1", 3, 0, 1, 0, 1, 0));
+        when(apiClient.getAllMissions("game1"))
+                .thenThrow(throttled)
+                .thenReturn(List.of(new Message("ad1", "Mission 1", "Sure Thing", 5, 500, null)));
+        OngoingStubbing<SolveResponse> solve = when(apiClient.solveMission("game1", "ad1"));
+        for (int i = 0; i < 30; i++) {
+            solve = solve.thenThrow(throttled);
+        }
+        solve.thenReturn(new SolveResponse(true, 3, 0, 1000, 1000, 2, "Success"));
+
+        // When
+        GamePlayResponse response = service.playGame();
+
+        // Then
+        assertTrue(response.gameResults().get(0).success());
+        verify(apiClient, times(31)).solveMission("game1", "ad1");
+        assertEquals(0, registry.get("dragons.game.solves").tag("result", "error").counter().count());
+    }
+
+    @Test
+    void testStreamGames_EmitsTurnEventsBeforeResult() {
+        // Given
+        Game initialGame = new Game("game1", 3, 100, 1, 0, 1, 0);
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(initialGame);
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(mission));
+        when(apiClient.solveMission("game1", "ad1")).thenReturn(solveResponse);
+        List<GameEvent> events = new ArrayList<>();
+
+        // When
+        gamePlayService.streamGames(1, 1, true, events::add);
+
+        // Then
+        assertEquals(List.of(
+                new GameEvent.MissionChosen("game1", 1, "ad1", "Sure Thing", 50),
+                new GameEvent.MissionSolved("game1", 2, "ad1", true, 1000, 3, 150)
+        ), events.subList(0, 2));
+        assertTrue(events.get(2) instanceof GameEvent.GameFinished finished && finished.result().success());
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testStreamGames_OnlyResultsWithoutTurnEvents() {
+        // Given
+        Game initialGame = new Game("game1", 3, 100, 1, 0, 1, 0);
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(initialGame);
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(mission));
+        when(apiClient.solveMission("game1", "ad1")).thenReturn(solveResponse);
+        List<GameEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        gamePlayService.streamGames(3, 2, false, events::add);
+
+        // Then
+        assertEquals(3, events.size());
+        assertTrue(events.stream().allMatch(GameEvent.GameFinished.class::isInstance));
+    }
+
+    @Test
+    void testStreamGames_GameThatThrowsIsReportedAsError() {
+        // Given
+        Game initialGame = new Game("game1", 3, 100, 1, 0, 1, 0);
+        Message mission = new Message("ad1", "Mission 1", "Sure Thing", 5, 50, null);
+        SolveResponse solveResponse = new SolveResponse(true, 3, 150, 1000, 1000, 2, "Success");
+
+        when(apiClient.startGame()).thenReturn(initialGame);
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(mission));
+        when(apiClient.solveMission("game1", "ad1")).thenReturn(solveResponse);
+        List<GameEvent> events = new ArrayList<>();
+
+        // When
+        gamePlayService.streamGames(1, 1, false, event -> {
+            if (events.isEmpty() && ((GameEvent.GameFinished) event).result().success()) {
+                throw new IllegalStateException("listener failed");
+            }
+            events.add(event);
+        });
+
+        // Then
+        assertEquals(1, events.size());
+        GameResult result = ((GameEvent.GameFinished) events.get(0)).result();
+        assertEquals("error", result.gameId());
+        assertEquals("listener failed", result.failureReason());
+    }
 }
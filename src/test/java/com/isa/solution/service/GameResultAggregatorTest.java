@@ -0,0 +1,96 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.model.GameResult;
+import com.isa.solution.model.ResultRetention;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameResultAggregatorTest {
+
+    @Test
+    void testConcurrentGamesAreAllCounted() throws Exception {
+        GameResultAggregator aggregator = GameResultAggregator.summaryOnly();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int score = 1; score <= 1000; score++) {
+                        aggregator.add(new GameResult("g", score, score % 50, score >= 500, null));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        GamePlayResponse response = aggregator.toResponse();
+
+        assertEquals(8000, response.totalGamesPlayed());
+        assertEquals(8 * 501, response.successfulGames());
+        assertEquals(8 * 499, response.failedGames());
+        assertEquals(500.5, response.averageScore());
+        assertEquals(1000, response.highestScore());
+        assertEquals(1, response.lowestScore());
+        assertEquals(List.of(), response.gameResults());
+        assertEquals(8000, response.scoreDistribution().count());
+        assertEquals(500, response.scoreDistribution().p50());
+        assertEquals(990, response.scoreDistribution().p99());
+        assertEquals(49, response.turnDistribution().max());
+    }
+
+    @Test
+    void testSampleKeepsAFixedNumberOfResults() {
+        GameResultAggregator aggregator = GameResultAggregator.of(ResultRetention.SAMPLE, 10, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            aggregator.add(new GameResult("g" + i, i, 1, false, null));
+        }
+        assertEquals(3, aggregator.toResponse().gameResults().size());
+
+        for (int i = 3; i < 10_000; i++) {
+            aggregator.add(new GameResult("g" + i, i, 1, false, null));
+        }
+        GamePlayResponse response = aggregator.toResponse();
+
+        assertEquals(10_000, response.totalGamesPlayed());
+        assertEquals(10, response.gameResults().size());
+        assertTrue(response.gameResults().stream().anyMatch(result -> result.finalScore() >= 10),
+                "later games should replace early ones");
+    }
+
+    @Test
+    void testAllResultsAreKeptByDefault() {
+        GameResultAggregator aggregator = GameResultAggregator.keepingAll();
+
+        aggregator.add(new GameResult("g1", 1000, 20, true, null));
+        aggregator.add(new GameResult("error", 0, 0, false, "boom"));
+
+        GamePlayResponse response = aggregator.toResponse();
+        assertEquals(2, response.gameResults().size());
+        assertEquals(500.0, response.averageScore());
+        assertEquals(0, response.lowestScore());
+    }
+
+    @Test
+    void testInvalidOptionsAreRejected() {
+        assertThrows(InvalidRequestException.class, () -> GameResultAggregator.of(ResultRetention.SAMPLE, 0, 1000));
+        assertThrows(InvalidRequestException.class, () -> GameResultAggregator.of(ResultRetention.SAMPLE, 1001, 1000));
+        assertThrows(InvalidRequestException.class, () -> ResultRetention.parse("some"));
+        assertEquals(ResultRetention.SAMPLE, ResultRetention.parse(" Sample "));
+    }
+}
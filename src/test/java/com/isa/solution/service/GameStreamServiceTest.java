@@ -0,0 +1,165 @@
+package com.isa.solution.service;
+
+import com.isa.solution.exception.GamePlayException;
+import com.isa.solution.exception.InvalidRequestException;
+import com.isa.solution.exception.StreamCapacityExceededException;
+import com.isa.solution.model.GameEvent;
+import com.isa.solution.model.GameResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GameStreamServiceTest {
+
+    @Mock
+    private GamePlayService gamePlayService;
+
+    private GameStreamService gameStreamService;
+
+    @AfterEach
+    void tearDown() {
+        if (gameStreamService != null) {
+            gameStreamService.destroy();
+        }
+    }
+
+    @Test
+    void testOpen_GamesWaitForTheReader() throws Exception {
+        gameStreamService = new GameStreamService(gamePlayService, 2, 1);
+        CountDownLatch allPublished = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            GameEventListener listener = invocation.getArgument(3);
+            for (int i = 0; i < 3; i++) {
+                listener.onEvent(finished("g" + i));
+            }
+            allPublished.countDown();
+            return null;
+        }).when(gamePlayService).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+
+        try (GameEventStream stream = gameStreamService.open(3, 1, false)) {
+            assertTrue(!allPublished.await(200, TimeUnit.MILLISECONDS), "producer should block on a full buffer");
+            assertEquals(1, stream.buffered());
+
+            assertEquals("g0", result(stream.next()));
+            assertEquals("g1", result(stream.next()));
+            assertEquals("g2", result(stream.next()));
+            assertNull(stream.next());
+            assertNull(stream.next());
+            assertTrue(allPublished.await(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testClose_CancelsTheBatch() throws Exception {
+        gameStreamService = new GameStreamService(gamePlayService, 2, 1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            GameEventListener listener = invocation.getArgument(3);
+            while (!Thread.currentThread().isInterrupted()) {
+                listener.onEvent(finished("g"));
+            }
+            interrupted.countDown();
+            return null;
+        }).when(gamePlayService).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+
+        GameEventStream stream = gameStreamService.open(100, 1, true);
+        assertEquals("g", result(stream.next()));
+        stream.close();
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testClose_EndsAReaderWaitingForAnEvent() throws Exception {
+        gameStreamService = new GameStreamService(gamePlayService, 2, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(gamePlayService).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+        GameEventStream stream = gameStreamService.open(1, 1, false);
+        CountDownLatch ended = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            try {
+                if (stream.next() == null) {
+                    ended.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        reader.start();
+
+        stream.close();
+
+        assertTrue(ended.await(5, TimeUnit.SECONDS));
+        assertNull(stream.next());
+        release.countDown();
+    }
+
+    @Test
+    void testOpen_FailedBatchEndsWithFailureEvent() throws Exception {
+        gameStreamService = new GameStreamService(gamePlayService, 2, 4);
+        doThrow(new GamePlayException("boom"))
+                .when(gamePlayService).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+
+        try (GameEventStream stream = gameStreamService.open(1, 1, false)) {
+            GameEvent.StreamFailed failed = assertInstanceOf(GameEvent.StreamFailed.class, stream.next());
+            assertEquals("boom", failed.message());
+            assertNull(stream.next());
+        }
+    }
+
+    @Test
+    void testOpen_RejectsWhenAllStreamsAreOpen() throws Exception {
+        gameStreamService = new GameStreamService(gamePlayService, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(gamePlayService).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+
+        try (GameEventStream ignored = gameStreamService.open(1, 1, false)) {
+            assertThrows(StreamCapacityExceededException.class, () -> gameStreamService.open(1, 1, false));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testOpen_InvalidBatchIsRejectedBeforeStarting() {
+        gameStreamService = new GameStreamService(gamePlayService, 1, 1);
+        doThrow(new InvalidRequestException("parallelism", 0, "must be at least 1"))
+                .when(gamePlayService).validateBatch(1, 0);
+
+        assertThrows(InvalidRequestException.class, () -> gameStreamService.open(1, 0, false));
+        verify(gamePlayService, never()).streamGames(anyInt(), anyInt(), anyBoolean(), any());
+    }
+
+    private static GameEvent finished(String gameId) {
+        return new GameEvent.GameFinished(new GameResult(gameId, 1000, 30, true, null));
+    }
+
+    private static String result(GameEvent event) {
+        return assertInstanceOf(GameEvent.GameFinished.class, event).result().gameId();
+    }
+}
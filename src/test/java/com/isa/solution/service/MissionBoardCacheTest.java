@@ -0,0 +1,112 @@
+package com.isa.solution.service;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MissionBoardCacheTest {
+
+    private static final Message SHORT = new Message("ad1", "Mission 1", "Sure Thing", 1, 50, null);
+    private static final Message LONG = new Message("ad2", "Mission 2", "Sure Thing", 5, 50, null);
+
+    @Mock
+    private DragonsApiClient apiClient;
+
+    private MissionBoardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MissionBoardCache("game1", apiClient, new MissionDecoder(100));
+    }
+
+    @Test
+    void testBoardReusedWhileNoTurnIsPlayed() {
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(SHORT, LONG));
+
+        cache.board();
+        MissionBoard second = cache.board();
+
+        assertEquals(2, second.size());
+        assertEquals(1, cache.fetches());
+        assertEquals(1, cache.reuses());
+        verify(apiClient, times(1)).getAllMissions("game1");
+    }
+
+    @Test
+    void testAttemptsSurviveRefetchWithinTheTurn() {
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(SHORT, LONG)).thenReturn(List.of(LONG, SHORT));
+
+        cache.board().markAttempted(0);
+        assertTrue(cache.board().isAttempted(0));
+
+        cache.invalidate();
+        MissionBoard refetched = cache.board();
+        assertFalse(refetched.isAttempted(0));
+        assertTrue(refetched.isAttempted(1));
+
+        cache.turnPlayed();
+        assertFalse(cache.board().isAttempted(1));
+    }
+
+    @Test
+    void testTurnPlayedForcesRefetch() {
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(SHORT)).thenReturn(List.of(LONG));
+
+        cache.board();
+        cache.turnPlayed();
+
+        assertFalse(cache.isCurrent());
+        assertEquals("ad2", cache.board().message(0).adId());
+        assertEquals(2, cache.fetches());
+    }
+
+    @Test
+    void testAdvanceAgesBoardLocally() {
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(SHORT, LONG));
+
+        cache.board();
+        cache.advance(2);
+        MissionBoard aged = cache.board();
+
+        assertEquals(1, aged.size());
+        assertEquals("ad2", aged.message(0).adId());
+        assertEquals(3, aged.expiresIn(0));
+        verify(apiClient, times(1)).getAllMissions("game1");
+    }
+
+    @Test
+    void testPrefetchedBoardIsUsedOnce() {
+        cache.board(() -> List.of(LONG));
+
+        assertTrue(cache.isCurrent());
+        assertEquals(1, cache.board(() -> List.of(SHORT)).size());
+        assertEquals("ad2", cache.board().message(0).adId());
+        verify(apiClient, never()).getAllMissions("game1");
+    }
+
+    @Test
+    void testInvalidateDropsBoard() {
+        when(apiClient.getAllMissions("game1")).thenReturn(List.of(SHORT));
+
+        cache.board();
+        cache.invalidate();
+        cache.board();
+
+        verify(apiClient, times(2)).getAllMissions("game1");
+    }
+}
@@ -0,0 +1,128 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.Message;
+import com.isa.solution.model.Probability;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissionDecoderTest {
+
+    @Test
+    void testDecodesBase64AndRot13() {
+        MissionDecoder decoder = new MissionDecoder(100);
+
+        Message base64 = decoder.decode(new Message("YWQx", "SGVscCB0aGUga2luZw==", "U3VyZSBUaGluZw==", 5, 50, 1));
+        Message rot13 = decoder.decode(new Message("nq2", "Uryc gur xvat", "Cvrpr bs Pnxr", 5, 50, 2));
+
+        assertEquals("ad1", base64.adId());
+        assertEquals("Help the king", base64.message());
+        assertEquals(Probability.SURE_THING, base64.level());
+        assertEquals(1, base64.encrypted());
+        assertEquals("ad2", rot13.adId());
+        assertEquals(Probability.PIECE_OF_CAKE, rot13.level());
+        assertEquals(2, rot13.encrypted());
+    }
+
+    @Test
+    void testLeavesPlainAndUndecodableAdsAsTheyAre() {
+        MissionDecoder decoder = new MissionDecoder(100);
+        List<Message> plain = List.of(new Message("ad1", "Help", "Sure Thing", 5, 50, null));
+        Message unknownEncoding = new Message("x", "y", "z", 5, 50, 3);
+        Message malformed = new Message("not base64!", "SGVscA==", "U3VyZSBUaGluZw==", 5, 50, 1);
+
+        assertSame(plain, decoder.decode(plain));
+        assertSame(unknownEncoding, decoder.decode(unknownEncoding));
+        assertSame(malformed, decoder.decode(malformed));
+        assertEquals(Probability.UNKNOWN, decoder.decode(malformed).level());
+    }
+
+    @Test
+    void testRecurringPayloadsAreDecodedOnce() {
+        MissionDecoder decoder = new MissionDecoder(100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decoder.bindTo(registry);
+        List<Message> board = List.of(
+                new Message("nq1", "Uryc", "Fher Guvat", 5, 50, 2),
+                new Message("nq2", "Uryc", "Fher Guvat", 5, 50, 2),
+                new Message("ad3", "Help", "Sure Thing", 5, 50, null));
+
+        List<Message> decoded = decoder.decode(board);
+        decoder.decode(board);
+
+        assertEquals(List.of("ad1", "ad2", "ad3"), decoded.stream().map(Message::adId).toList());
+        assertEquals(4, registry.get("dragons.missions.decoder.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(8, registry.get("dragons.missions.decoder.requests").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testCacheStaysBounded() {
+        MissionDecoder decoder = new MissionDecoder(10);
+
+        for (int i = 0; i < 100; i++) {
+            decoder.decode(new Message("nq" + i, "Uryc", "Fher Guvat", 5, 50, 2));
+        }
+
+        assertEquals(10, decoder.size());
+    }
+
+    @Test
+    void testCacheKeepsRecentlyUsedValues() {
+        // Room for the shared message and label plus two ad ids.
+        MissionDecoder decoder = new MissionDecoder(4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decoder.bindTo(registry);
+        Message first = new Message("nq1", "Uryc", "Fher Guvat", 5, 50, 2);
+
+        decoder.decode(first);
+        decoder.decode(new Message("nq2", "Uryc", "Fher Guvat", 5, 50, 2));
+        decoder.decode(first);
+        decoder.decode(new Message("nq3", "Uryc", "Fher Guvat", 5, 50, 2));
+
+        assertEquals(4, decoder.size());
+        assertEquals(5, registry.get("dragons.missions.decoder.requests").tag("result", "miss").functionCounter().count());
+        // nq1 was inserted first but used since, so nq2 was evicted in its place.
+        decoder.decode(first);
+        assertEquals(5, registry.get("dragons.missions.decoder.requests").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testCacheStaysBoundedUnderConcurrentDecodes() throws Exception {
+        MissionDecoder decoder = new MissionDecoder(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2000; i++) {
+                        decoder.decode(new Message("nq" + thread + "-" + i, "Uryc", "Fher Guvat", 5, 50, 2));
+                        assertTrue(decoder.size() <= 50);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(50, decoder.size());
+    }
+}
@@ -4,11 +4,13 @@ import com.isa.solution.model.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -150,5 +152,101 @@ class MissionSelectionServiceTest {
         assertTrue(result.isPresent());
         assertEquals("ad1", result.get().adId());
     }
-}
 
+    @Test
+    void testSelectBestMission_UnknownLabelIsNeverSafe() {
+        List<Message> missions = List.of(
+                new Message("ad1", "Mission 1", "Gamble", 5, 500, null),
+                new Message("ad2", "Mission 2", "Quite likely", 5, 50, null)
+        );
+        Optional<Message> result = missionSelectionService.selectBestMission(missions, 3);
+        assertTrue(result.isPresent());
+        assertEquals("ad2", result.get().adId());
+    }
+
+    @Test
+    void testSelectFallbackMission_PrefersSafestRemainingLabel() {
+        List<Message> missions = List.of(
+                new Message("ad1", "Mission 1", "Impossible", 5, 500, null),
+                new Message("ad2", "Mission 2", "Playing with fire", 5, 50, null),
+                new Message("ad3", "Mission 3", "Risky", 5, 10, null),
+                new Message("ad4", "Mission 4", "Risky", 5, 90, null),
+                new Message("ad5", "Mission 5", "Suicide mission", 5, 500, null)
+        );
+        Optional<Message> result = missionSelectionService.selectFallbackMission(missions);
+        assertTrue(result.isPresent());
+        assertEquals("ad3", result.get().adId());
+    }
+
+    @Test
+    void testBestMissionIndex_SkipsAttemptedAds() {
+        MissionBoard board = MissionBoard.of(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 100, null),
+                new Message("ad2", "Mission 2", "Sure Thing", 5, 50, null)
+        ));
+
+        assertEquals(0, missionSelectionService.bestMissionIndex(board, 3));
+        board.markAttempted(0);
+        assertEquals(1, missionSelectionService.bestMissionIndex(board, 3));
+        board.markAttempted(1);
+        assertEquals(-1, missionSelectionService.bestMissionIndex(board, 3));
+        assertEquals(-1, missionSelectionService.fallbackMissionIndex(board));
+        board.clearAttempted();
+        assertEquals(0, missionSelectionService.fallbackMissionIndex(board));
+    }
+
+    @Test
+    void testRankMissions_KeepsBestCandidatesInSelectionOrder() {
+        MissionBoard board = MissionBoard.of(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 10, null),
+                new Message("ad2", "Mission 2", "Quite likely", 5, 100, null),
+                new Message("ad3", "Mission 3", "Risky", 5, 1000, null),
+                new Message("ad4", "Mission 4", "Piece of Cake", 5, 60, null),
+                new Message("ad5", "Mission 5", "Sure Thing", 5, 70, null),
+                new Message("ad6", "Mission 6", "Sure Thing", 5, 57, null)
+        ));
+
+        MissionCandidates candidates = missionSelectionService.rankMissions(board, 3, 3);
+
+        assertEquals(3, candidates.size());
+        for (int expected : new int[] {1, 4, 3}) {
+            assertEquals(missionSelectionService.bestMissionIndex(board, 3), candidates.next());
+            assertEquals(expected, candidates.next());
+            board.markAttempted(expected);
+        }
+        assertEquals(-1, candidates.next());
+        assertFalse(candidates.hasNext());
+        assertEquals(5, missionSelectionService.rankMissions(board, 3, 3).next());
+    }
+
+    @Test
+    void testRankMissions_OffersUnmarkedCandidateAgain() {
+        MissionBoard board = MissionBoard.of(List.of(
+                new Message("ad1", "Mission 1", "Sure Thing", 5, 100, null),
+                new Message("ad2", "Mission 2", "Sure Thing", 5, 50, null)
+        ));
+        MissionCandidates candidates = missionSelectionService.rankMissions(board, 1, 8);
+
+        board.markAttempted(candidates.next());
+        board.unmarkAttempted(0);
+
+        assertEquals(0, candidates.next());
+        assertTrue(candidates.isFor(board, 1));
+        assertFalse(candidates.isFor(board, 2));
+    }
+
+    @Test
+    void testSelectBestMission_UsesLearnedSuccessRates() {
+        SuccessRateTable successRates = new SuccessRateTable(true, 20, false, "", Duration.ZERO);
+        MissionSelectionService learning = new MissionSelectionService(successRates);
+        Message cake = new Message("ad1", "Mission 1", "Piece of Cake", 5, 100, null);
+        List<Message> missions = List.of(cake, new Message("ad2", "Mission 2", "Sure Thing", 5, 90, null));
+        assertEquals("ad1", learning.selectBestMission(missions, 3).get().adId());
+
+        for (int i = 0; i < 20; i++) {
+            learning.recordOutcome(cake, false);
+        }
+
+        assertEquals("ad2", learning.selectBestMission(missions, 3).get().adId());
+    }
+}
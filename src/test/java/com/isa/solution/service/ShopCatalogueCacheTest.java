@@ -0,0 +1,78 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.ShopItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShopCatalogueCacheTest {
+
+    private static final List<ShopItem> CATALOGUE = List.of(new ShopItem("hpot", "Healing Potion", 50));
+
+    private ShopCatalogueCache cache;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ShopCatalogueCache();
+        registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testLoadsOncePerGame() {
+        cache.get("game1", this::load);
+        cache.get("game1", this::load);
+        cache.get("game2", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, registry.get("dragons.shop.catalogue.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("dragons.shop.catalogue.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(2.0, registry.get("dragons.shop.catalogue.size").gauge().value());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        cache.get("game1", this::load);
+        cache.invalidate("game1");
+        cache.get("game1", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, registry.get("dragons.shop.catalogue.invalidations").functionCounter().count());
+    }
+
+    @Test
+    void testEvictReleasesFinishedGame() {
+        cache.get("game1", this::load);
+        assertTrue(cache.contains("game1"));
+
+        cache.evict("game1");
+
+        assertFalse(cache.contains("game1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFailedLoadCachesNothing() {
+        assertThrows(IllegalStateException.class, () -> cache.get("game1", gameId -> {
+            throw new IllegalStateException("shop unavailable");
+        }));
+
+        assertFalse(cache.contains("game1"));
+    }
+
+    private List<ShopItem> load(String gameId) {
+        loads.incrementAndGet();
+        return CATALOGUE;
+    }
+}
@@ -14,9 +14,11 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -153,5 +155,53 @@ class ShopServiceTest {
         assertTrue(result.isPresent());
         verify(apiClient).purchaseItem("game1", "HPOT");
     }
-}
 
+    @Test
+    void testBuyHealingPotion_UsesPrefetchedShop() {
+        PurchaseResponse purchaseResponse = new PurchaseResponse(true, 3, 50, 1, 1);
+        when(apiClient.purchaseItem("game1", "hpot")).thenReturn(purchaseResponse);
+
+        Optional<PurchaseResponse> result = shopService.buyHealingPotion("game1", 100,
+                List.of(new ShopItem("hpot", "Healing Potion", 50)));
+
+        assertTrue(result.isPresent());
+        verify(apiClient, never()).getShopItems(anyString());
+    }
+
+    @Test
+    void testNeedsHealingPotion() {
+        assertTrue(shopService.needsHealingPotion(100, 2));
+        assertTrue(shopService.needsHealingPotion(10, 1));
+        assertFalse(shopService.needsHealingPotion(100, 3));
+        assertFalse(shopService.needsHealingPotion(30, 2));
+    }
+
+    @Test
+    void testBuyHealingPotionIfNeeded_ReusesCachedCatalogue() {
+        when(apiClient.getShopItems("game1")).thenReturn(List.of(
+                new ShopItem("hpot", "Healing Potion", 50)
+        ));
+        when(apiClient.purchaseItem("game1", "hpot")).thenReturn(new PurchaseResponse(true, 3, 50, 1, 1));
+
+        shopService.buyHealingPotionIfNeeded("game1", 100, 2);
+        shopService.buyHealingPotionIfNeeded("game1", 100, 2);
+
+        verify(apiClient, times(1)).getShopItems("game1");
+        verify(apiClient, times(2)).purchaseItem("game1", "hpot");
+    }
+
+    @Test
+    void testBuyHealingPotionIfNeeded_FailedPurchaseInvalidatesCatalogue() {
+        when(apiClient.getShopItems("game1")).thenReturn(List.of(
+                new ShopItem("hpot", "Healing Potion", 50)
+        ));
+        when(apiClient.purchaseItem("game1", "hpot"))
+                .thenThrow(new InsufficientResourcesException("Not enough gold"))
+                .thenReturn(new PurchaseResponse(true, 3, 50, 1, 1));
+
+        assertTrue(shopService.buyHealingPotionIfNeeded("game1", 100, 2).isEmpty());
+        assertTrue(shopService.buyHealingPotionIfNeeded("game1", 100, 2).isPresent());
+
+        verify(apiClient, times(2)).getShopItems("game1");
+    }
+}
@@ -0,0 +1,108 @@
+package com.isa.solution.service;
+
+import com.isa.solution.model.Probability;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuccessRateTableTest {
+
+    private static final int CAKE = Probability.PIECE_OF_CAKE.ordinal();
+
+    @Test
+    void testStartsFromDocumentedRatesAndLearnsFromSolves() {
+        SuccessRateTable table = new SuccessRateTable(true, 20, false, "", Duration.ZERO);
+        assertEquals(0.95, table.successRate(CAKE, 50), 1e-9);
+
+        for (int i = 0; i < 80; i++) {
+            table.record(Probability.PIECE_OF_CAKE, 50, i % 2 == 0);
+        }
+
+        // (40 successes + 20 * 0.95) / (80 + 20)
+        assertEquals(0.59, table.successRate(CAKE, 50), 1e-9);
+        assertEquals(0.59, table.successRate(CAKE, 5000), 1e-9);
+        assertEquals(80, table.attempts(Probability.PIECE_OF_CAKE));
+    }
+
+    @Test
+    void testRewardBucketsLearnSeparatelyFromTheirLabel() {
+        SuccessRateTable table = new SuccessRateTable(true, 10, true, "", Duration.ZERO);
+
+        for (int i = 0; i < 90; i++) {
+            table.record(Probability.PIECE_OF_CAKE, 500, false);
+        }
+
+        double label = (0 + 10 * 0.95) / (90 + 10);
+        assertEquals(10 * label / (90 + 10), table.successRate(CAKE, 500), 1e-9);
+        assertEquals(label, table.successRate(CAKE, 20), 1e-9);
+        assertEquals(1.0, table.successRate(Probability.SURE_THING.ordinal(), 500), 1e-9);
+    }
+
+    @Test
+    void testDisabledTableIgnoresSolves() {
+        SuccessRateTable table = SuccessRateTable.disabled();
+
+        table.record(Probability.PIECE_OF_CAKE, 50, false);
+
+        assertEquals(0.95, table.successRate(CAKE, 50), 1e-9);
+        assertEquals(0, table.attempts(Probability.PIECE_OF_CAKE));
+    }
+
+    @Test
+    void testSnapshotIsReloadedByTheNextTable() throws Exception {
+        Path file = Files.createTempDirectory("success-rates").resolve("rates/success-rates.json");
+        SuccessRateTable table = new SuccessRateTable(true, 20, true, file.toString(), Duration.ZERO);
+        for (int i = 0; i < 30; i++) {
+            table.record(Probability.RISKY, 200, i < 3);
+        }
+        table.destroy();
+        assertTrue(Files.exists(file));
+
+        SuccessRateTable reloaded = new SuccessRateTable(true, 20, true, file.toString(), Duration.ZERO);
+
+        assertEquals(30, reloaded.attempts(Probability.RISKY));
+        assertEquals(table.successRate(Probability.RISKY.ordinal(), 200),
+                reloaded.successRate(Probability.RISKY.ordinal(), 200), 1e-9);
+    }
+
+    @Test
+    void testUnreadableSnapshotStartsFromPriors() throws Exception {
+        Path file = Files.createTempFile("success-rates", ".json");
+        Files.writeString(file, "not json");
+
+        SuccessRateTable table = new SuccessRateTable(true, 20, true, file.toString(), Duration.ZERO);
+
+        assertEquals(0.95, table.successRate(CAKE, 50), 1e-9);
+    }
+
+    @Test
+    void testSnapshotEntryWithUnknownLabelIsSkipped() throws Exception {
+        Path file = Files.createTempFile("success-rates", ".json");
+        Files.writeString(file, """
+                [{"probability":"DRAGON_BAIT","rewardBucket":3,"attempts":10,"successes":1},
+                 {"probability":"RISKY","rewardBucket":8,"attempts":30,"successes":3}]
+                """);
+
+        SuccessRateTable table = new SuccessRateTable(true, 20, true, file.toString(), Duration.ZERO);
+
+        assertEquals(30, table.attempts(Probability.RISKY));
+    }
+
+    @Test
+    void testEstimatesAreExportedPerLabel() {
+        SuccessRateTable table = new SuccessRateTable(true, 20, true, "", Duration.ZERO);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        table.bindTo(registry);
+
+        table.record(Probability.SURE_THING, 10, false);
+
+        assertEquals(20.0 / 21, registry.get("dragons.game.success.rate").tag("probability", "SURE_THING").gauge().value(),
+                1e-9);
+    }
+}
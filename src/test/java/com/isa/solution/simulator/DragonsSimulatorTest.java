@@ -0,0 +1,185 @@
+package com.isa.solution.simulator;
+
+import com.isa.solution.apiclient.DragonsApiClient;
+import com.isa.solution.apiclient.DragonsApiClientImpl;
+import com.isa.solution.apiclient.ModelCodecRegistry;
+import com.isa.solution.config.DragonsApiConfig;
+import com.isa.solution.exception.ApiResponseException;
+import com.isa.solution.exception.GameNotFoundException;
+import com.isa.solution.exception.MissionNotFoundException;
+import com.isa.solution.model.Game;
+import com.isa.solution.model.GamePlayResponse;
+import com.isa.solution.model.GameResult;
+import com.isa.solution.model.Message;
+import com.isa.solution.model.Probability;
+import com.isa.solution.model.PurchaseResponse;
+import com.isa.solution.model.SolveResponse;
+import com.isa.solution.service.GamePlayService;
+import com.isa.solution.service.MissionSelectionService;
+import com.isa.solution.service.ShopService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DragonsSimulatorTest {
+
+    private DragonsSimulator simulator;
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void testServesApiShapes() throws IOException {
+        DragonsApiClient apiClient = start(SimulatorSettings.defaults());
+
+        Game game = apiClient.startGame();
+        List<Message> board = apiClient.getAllMissions(game.gameId());
+        SolveResponse solved = apiClient.solveMission(game.gameId(), board.get(0).adId());
+        PurchaseResponse purchase = apiClient.purchaseItem(game.gameId(), "hpot");
+
+        assertEquals(3, game.lives());
+        assertEquals(10, board.size());
+        assertEquals(1, solved.turn());
+        assertEquals(2, purchase.turn());
+        assertEquals(11, apiClient.getShopItems(game.gameId()).size());
+    }
+
+    @Test
+    void testSameSeedReplaysSameGames() throws IOException {
+        List<GameResult> first = play(start(SimulatorSettings.defaults().withSeed(7)), 5);
+        simulator.close();
+        List<GameResult> second = play(start(SimulatorSettings.defaults().withSeed(7)), 5);
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testDeterministicProfileFinishesInFixedTurns() throws IOException {
+        List<GameResult> results = play(start(SimulatorSettings.deterministic(10)), 3);
+
+        for (GameResult result : results) {
+            assertTrue(result.success());
+            assertEquals(10, result.turnsPlayed());
+        }
+    }
+
+    @Test
+    void testUnknownGameAndAd() throws IOException {
+        DragonsApiClient apiClient = start(SimulatorSettings.defaults());
+        String gameId = apiClient.startGame().gameId();
+
+        assertThrows(GameNotFoundException.class, () -> apiClient.getAllMissions("nope"));
+        assertThrows(MissionNotFoundException.class, () -> apiClient.solveMission(gameId, "nope"));
+    }
+
+    @Test
+    void testErrorInjection() throws IOException {
+        DragonsApiClient apiClient = start(SimulatorSettings.defaults().withErrorRate(1.0));
+
+        ApiResponseException e = assertThrows(ApiResponseException.class, apiClient::startGame);
+
+        assertEquals(500, e.getStatusCode());
+        assertEquals(1, simulator.injectedErrors());
+    }
+
+    @Test
+    void testInjectedErrorsAreReproducibleFromTheSeed() throws IOException {
+        SimulatorSettings settings = SimulatorSettings.defaults().withSeed(11).withErrorRate(0.3);
+
+        String first = errorPattern(start(settings));
+        simulator.close();
+        String second = errorPattern(start(settings));
+
+        assertEquals(first, second);
+        assertTrue(first.contains("x") && first.contains("."), first);
+    }
+
+    @Test
+    void testLatencyInjection() throws IOException {
+        DragonsApiClient apiClient = start(SimulatorSettings.defaults().withLatency(Duration.ofMillis(50), Duration.ZERO));
+
+        long start = System.nanoTime();
+        apiClient.startGame();
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void testSettingsValidation() {
+        SimulatorSettings defaults = SimulatorSettings.defaults();
+
+        assertThrows(IllegalArgumentException.class, () -> defaults.withErrorRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> defaults.withRewards(10, 5));
+        assertFalse(defaults.successRates().isEmpty());
+    }
+
+    @Test
+    void testEncryptedAdsAreSolvedByTheirDecodedId() throws IOException {
+        DragonsApiClient apiClient = start(SimulatorSettings.defaults().withEncryptedRate(1.0));
+
+        Game game = apiClient.startGame();
+        List<Message> board = apiClient.getAllMissions(game.gameId());
+        assertTrue(board.stream().allMatch(m -> m.encrypted() != null));
+        assertTrue(board.stream().allMatch(m -> m.level() == Probability.UNKNOWN));
+
+        GamePlayResponse response = new GamePlayService(apiClient, new MissionSelectionService(), new ShopService(apiClient))
+                .playGames(5, 1);
+        assertEquals(5, response.successfulGames() + response.failedGames());
+        assertTrue(response.gameResults().stream().allMatch(r -> r.failureReason() == null));
+        assertTrue(response.gameResults().stream().mapToInt(GameResult::skipsAvoided).sum() > 0);
+    }
+
+    private DragonsApiClient start(SimulatorSettings settings) throws IOException {
+        simulator = DragonsSimulator.start(settings, 0);
+        return new DragonsApiClientImpl(new RestTemplate(),
+                new ModelCodecRegistry(new DragonsApiConfig().objectMapper(false)), simulator.baseUrl());
+    }
+
+    /**
+     * Starts a game, retrying injected errors, then fetches its board 40 times: "x" marks a
+     * request that failed, "." one that succeeded.
+     */
+    private static String errorPattern(DragonsApiClient apiClient) {
+        StringBuilder pattern = new StringBuilder();
+        String gameId = null;
+        while (gameId == null) {
+            try {
+                gameId = apiClient.startGame().gameId();
+                pattern.append('.');
+            } catch (ApiResponseException e) {
+                pattern.append('x');
+            }
+        }
+        pattern.append('|');
+        for (int i = 0; i < 40; i++) {
+            try {
+                apiClient.getAllMissions(gameId);
+                pattern.append('.');
+            } catch (ApiResponseException e) {
+                pattern.append('x');
+            }
+        }
+        return pattern.toString();
+    }
+
+    private static List<GameResult> play(DragonsApiClient apiClient, int games) {
+        GamePlayService gamePlayService = new GamePlayService(apiClient, new MissionSelectionService(), new ShopService(apiClient));
+        GamePlayResponse response = gamePlayService.playGames(games, 1);
+        return response.gameResults().stream()
+                .map(r -> new GameResult(r.gameId(), r.finalScore(), r.turnsPlayed(), r.success(), r.failureReason()))
+                .toList();
+    }
+}